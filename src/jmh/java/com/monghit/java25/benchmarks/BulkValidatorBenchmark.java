@@ -0,0 +1,85 @@
+package com.monghit.java25.benchmarks;
+
+import com.monghit.java25.features.BulkValidator;
+import com.monghit.java25.features.PrimitiveClassifier;
+import com.monghit.java25.features.PrimitivePatternMatchingDemo;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validación masiva de una columna: validateNumber (switch sobre Object), el bucle
+ * escalar de PrimitiveClassifier y la ruta SIMD de BulkValidator (Vector API).
+ * Resultados en ns por elemento.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkValidatorBenchmark {
+
+    private static final int SIZE = 1 << 20;
+
+    private PrimitivePatternMatchingDemo demo;
+    private int[] ints;
+    private long[] longs;
+    private Integer[] boxed;
+    private byte[] codes;
+    private long[] counts;
+
+    @Setup
+    public void setUp() {
+        demo = new PrimitivePatternMatchingDemo();
+        Random random = new Random(42);
+        ints = new int[SIZE];
+        longs = new long[SIZE];
+        boxed = new Integer[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            ints[i] = random.nextInt(-200, 400);
+            longs[i] = ints[i];
+            boxed[i] = ints[i];
+        }
+        codes = new byte[SIZE];
+        counts = new long[PrimitiveClassifier.CODES];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void switchOnBoxed(Blackhole blackhole) {
+        for (Integer value : boxed) {
+            blackhole.consume(demo.validateNumber(value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long[] scalarInts() {
+        PrimitiveClassifier.classify(ints, codes, counts);
+        return counts;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long[] vectorInts() {
+        BulkValidator.validate(ints, codes, counts);
+        return counts;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long[] scalarLongs() {
+        PrimitiveClassifier.classify(longs, codes, counts);
+        return counts;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long[] vectorLongs() {
+        BulkValidator.validate(longs, codes, counts);
+        return counts;
+    }
+}
@@ -0,0 +1,105 @@
+package com.monghit.java25.benchmarks;
+
+import com.monghit.java25.features.PrimitiveClassifier;
+import com.monghit.java25.features.PrimitivePatternMatchingDemo;
+import com.monghit.java25.features.StrictIntConverter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de PrimitivePatternMatchingDemo.processPrimitive sobre una mezcla
+ * de valores boxed (el caso real del endpoint, que recibe Object), y de la
+ * validación por columnas: validateNumber boxed frente a PrimitiveClassifier.
+ * También compara la conversión de strings sucios con Integer.parseInt (una
+ * NumberFormatException por cada valor inválido, la línea base) frente a
+ * StrictIntConverter, que es lo que usa /convert y no lanza excepciones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitivePatternMatchingBenchmark {
+
+    private static final int COLUMN_SIZE = 4_096;
+
+    private PrimitivePatternMatchingDemo demo;
+    private Object[] values;
+    private int[] column;
+    private Integer[] boxedColumn;
+    private byte[] codes;
+    private long[] counts;
+    private String[] dirtyStrings;
+
+    @Setup
+    public void setUp() {
+        demo = new PrimitivePatternMatchingDemo();
+        values = new Object[]{150, 42, 999L, 3.14, 2.5f, true, (byte) 7, (short) 1000, 'A', "texto", null};
+
+        Random random = new Random(42);
+        column = new int[COLUMN_SIZE];
+        boxedColumn = new Integer[COLUMN_SIZE];
+        for (int i = 0; i < COLUMN_SIZE; i++) {
+            column[i] = random.nextInt(-200, 400);
+            boxedColumn[i] = column[i];
+        }
+        codes = new byte[COLUMN_SIZE];
+        counts = new long[PrimitiveClassifier.CODES];
+        dirtyStrings = new String[]{"123", "abc", "-45", "12.5", "", "99999999999", "7", "n/a"};
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(11)
+    public void processPrimitive(Blackhole blackhole) {
+        for (Object value : values) {
+            blackhole.consume(demo.processPrimitive(value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(11)
+    public void validateNumber(Blackhole blackhole) {
+        for (Object value : values) {
+            blackhole.consume(demo.validateNumber(value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COLUMN_SIZE)
+    public void validateNumberColumn(Blackhole blackhole) {
+        for (Integer value : boxedColumn) {
+            blackhole.consume(demo.validateNumber(value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COLUMN_SIZE)
+    public long[] classifierColumn() {
+        PrimitiveClassifier.classify(column, codes, counts);
+        return counts;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(8)
+    public void parseIntDirtyStrings(Blackhole blackhole) {
+        for (String value : dirtyStrings) {
+            try {
+                blackhole.consume(Integer.parseInt(value));
+            } catch (NumberFormatException e) {
+                blackhole.consume(e);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(8)
+    public void strictConvertDirtyStrings(Blackhole blackhole) {
+        for (String value : dirtyStrings) {
+            blackhole.consume(StrictIntConverter.convert(value));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.monghit.java25.benchmarks;
+
+import com.monghit.java25.features.RequestContext;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.MDC;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contexto de petición con ScopedValue (RequestContext.CURRENT, como lo enlaza
+ * RequestContextFilter) frente a ThreadLocal y MDC, con una petición por virtual
+ * thread y miles de virtual threads concurrentes.
+ *
+ * Cada petición enlaza el contexto, lo lee desde un handler anidado y lo libera. El
+ * coste de memoria de las copias ThreadLocal/MDC por virtual thread se ve lanzando
+ * JMH con el profiler de GC (-prof gc, métrica gc.alloc.rate.norm).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestContextBenchmark {
+
+    private static final ThreadLocal<RequestContext> THREAD_LOCAL = new ThreadLocal<>();
+
+    @Param({"1000", "10000", "100000"})
+    public int virtualThreads;
+
+    @Benchmark
+    public long scopedValue() {
+        return runRequests(i -> {
+            RequestContext context = new RequestContext("req-" + i, "user-" + i, "tenant-" + (i & 15));
+            return ScopedValue.where(RequestContext.CURRENT, context)
+                    .call(RequestContextBenchmark::scopedHandler);
+        });
+    }
+
+    @Benchmark
+    public long threadLocalBaseline() {
+        return runRequests(i -> {
+            THREAD_LOCAL.set(new RequestContext("req-" + i, "user-" + i, "tenant-" + (i & 15)));
+            try {
+                return threadLocalHandler();
+            } finally {
+                THREAD_LOCAL.remove();
+            }
+        });
+    }
+
+    @Benchmark
+    public long mdcBaseline() {
+        return runRequests(i -> {
+            MDC.put("requestId", "req-" + i);
+            MDC.put("userId", "user-" + i);
+            MDC.put("tenantId", "tenant-" + (i & 15));
+            try {
+                return mdcHandler();
+            } finally {
+                MDC.clear();
+            }
+        });
+    }
+
+    private long runRequests(Request request) {
+        LongAdder total = new LongAdder();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < virtualThreads; i++) {
+                int index = i;
+                executor.execute(() -> total.add(request.handle(index)));
+            }
+        }
+        return total.sum();
+    }
+
+    private static int scopedHandler() {
+        RequestContext context = RequestContext.CURRENT.get();
+        return context.requestId().length() + context.userId().length() + context.tenantId().length();
+    }
+
+    private static int threadLocalHandler() {
+        RequestContext context = THREAD_LOCAL.get();
+        return context.requestId().length() + context.userId().length() + context.tenantId().length();
+    }
+
+    private static int mdcHandler() {
+        return MDC.get("requestId").length() + MDC.get("userId").length() + MDC.get("tenantId").length();
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        int handle(int index);
+    }
+}
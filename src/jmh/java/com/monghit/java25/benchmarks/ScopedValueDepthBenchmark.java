@@ -0,0 +1,112 @@
+package com.monghit.java25.benchmarks;
+
+import com.monghit.java25.features.RequestContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste de leer el contexto al final de una cadena de llamadas de profundidad
+ * creciente, como la de processWithContext (tres ScopedValue y tres get()) frente a
+ * processWithContextCarrier (un único RequestContext y un get()).
+ *
+ * Cada frame de la cadena enlaza además su propio ScopedValue, como haría una capa de
+ * middleware: el valor buscado queda cada vez más lejos en la cadena de bindings y un
+ * fallo de la caché de scoped values la recorre entera. La línea base con ThreadLocal
+ * no depende de la profundidad.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScopedValueDepthBenchmark {
+
+    private static final int MAX_DEPTH = 20;
+
+    private static final ScopedValue<String> USER_ID = ScopedValue.newInstance();
+    private static final ScopedValue<String> REQUEST_ID = ScopedValue.newInstance();
+    private static final ScopedValue<String> TENANT_ID = ScopedValue.newInstance();
+
+    private static final ThreadLocal<RequestContext> THREAD_LOCAL = new ThreadLocal<>();
+
+    @SuppressWarnings("unchecked")
+    private static final ScopedValue<Integer>[] FRAMES = new ScopedValue[MAX_DEPTH];
+
+    static {
+        for (int i = 0; i < MAX_DEPTH; i++) {
+            FRAMES[i] = ScopedValue.newInstance();
+        }
+    }
+
+    @Param({"1", "5", "10", "20"})
+    public int depth;
+
+    /**
+     * Lecturas al final de la cadena; con valores > 1 se ve el efecto de la caché.
+     */
+    @Param({"1", "4"})
+    public int lookups;
+
+    @Benchmark
+    public int threeScopedValues() {
+        return ScopedValue.where(USER_ID, "user123")
+                .where(REQUEST_ID, "req456")
+                .where(TENANT_ID, "tenant789")
+                .call(() -> descend(0, ScopedValueDepthBenchmark::readThreeValues));
+    }
+
+    @Benchmark
+    public int contextCarrier() {
+        return ScopedValue.where(RequestContext.CURRENT, new RequestContext("req456", "user123", "tenant789"))
+                .call(() -> descend(0, ScopedValueDepthBenchmark::readCarrier));
+    }
+
+    @Benchmark
+    public int threadLocalBaseline() {
+        THREAD_LOCAL.set(new RequestContext("req456", "user123", "tenant789"));
+        try {
+            return descendWithoutBindings(0);
+        } finally {
+            THREAD_LOCAL.remove();
+        }
+    }
+
+    private int descend(int frame, Leaf leaf) {
+        if (frame == depth) {
+            int total = 0;
+            for (int i = 0; i < lookups; i++) {
+                total += leaf.read();
+            }
+            return total;
+        }
+        return ScopedValue.where(FRAMES[frame], frame).call(() -> descend(frame + 1, leaf));
+    }
+
+    private int descendWithoutBindings(int frame) {
+        if (frame == depth) {
+            int total = 0;
+            for (int i = 0; i < lookups; i++) {
+                RequestContext context = THREAD_LOCAL.get();
+                total += context.userId().length() + context.requestId().length() + context.tenantId().length();
+            }
+            return total;
+        }
+        return descendWithoutBindings(frame + 1);
+    }
+
+    private static int readThreeValues() {
+        return USER_ID.get().length() + REQUEST_ID.get().length() + TENANT_ID.get().length();
+    }
+
+    private static int readCarrier() {
+        RequestContext context = RequestContext.CURRENT.get();
+        return context.userId().length() + context.requestId().length() + context.tenantId().length();
+    }
+
+    @FunctionalInterface
+    private interface Leaf {
+        int read();
+    }
+}
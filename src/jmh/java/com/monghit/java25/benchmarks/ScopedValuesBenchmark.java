@@ -0,0 +1,52 @@
+package com.monghit.java25.benchmarks;
+
+import com.monghit.java25.features.ScopedValuesDemo;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de ScopedValuesDemo.processWithContext frente a la alternativa
+ * clásica con ThreadLocal (set / get / remove por petición).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScopedValuesBenchmark {
+
+    private static final ThreadLocal<String> USER_ID = new ThreadLocal<>();
+    private static final ThreadLocal<String> REQUEST_ID = new ThreadLocal<>();
+    private static final ThreadLocal<String> TENANT_ID = new ThreadLocal<>();
+
+    private ScopedValuesDemo demo;
+
+    @Setup
+    public void setUp() {
+        demo = new ScopedValuesDemo();
+    }
+
+    @Benchmark
+    public String scopedValue() {
+        return demo.processWithContext("user123", "req456", "tenant789");
+    }
+
+    @Benchmark
+    public String threadLocalBaseline() {
+        USER_ID.set("user123");
+        REQUEST_ID.set("req456");
+        TENANT_ID.set("tenant789");
+        try {
+            return String.format(
+                    "Procesando operación - User: %s, Request: %s, Tenant: %s",
+                    USER_ID.get(), REQUEST_ID.get(), TENANT_ID.get()
+            );
+        } finally {
+            USER_ID.remove();
+            REQUEST_ID.remove();
+            TENANT_ID.remove();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.monghit.java25.benchmarks;
+
+import com.monghit.java25.features.StableValueComparison;
+import com.monghit.java25.features.StableValuesDemo;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Lectura en estado estable de StableValuesDemo.getLazyConfig frente a
+ * double-checked locking y a un campo volatile, usando los mismos holders que
+ * StableValueComparison (/stable-values/benchmark).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StableValuesBenchmark {
+
+    private static final Supplier<String> LOADER = () -> "config-loaded-" + System.nanoTime();
+
+    private StableValuesDemo demo;
+    private StableValueComparison.ConfigHolder volatileHolder;
+    private StableValueComparison.ConfigHolder doubleChecked;
+    private StableValueComparison.ConfigHolder stableInstance;
+    private StableValueComparison.ConfigHolder stableStatic;
+
+    @Setup
+    public void setUp() {
+        demo = new StableValuesDemo();
+        volatileHolder = new StableValueComparison.VolatileHolder(LOADER);
+        doubleChecked = new StableValueComparison.DoubleCheckedHolder(LOADER);
+        stableInstance = new StableValueComparison.StableValueHolder(LOADER);
+        stableStatic = new StableValueComparison.StaticStableValueHolder();
+
+        // Inicializar fuera de la medición: se mide la lectura ya establecida
+        demo.getLazyConfig();
+        doubleChecked.getConfig();
+        stableInstance.getConfig();
+        stableStatic.getConfig();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String stableValue() {
+        return demo.getLazyConfig();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String stableValueInstanceField() {
+        return stableInstance.getConfig();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String stableValueStaticFinal() {
+        return stableStatic.getConfig();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String doubleCheckedLocking() {
+        return doubleChecked.getConfig();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String volatileField() {
+        return volatileHolder.getConfig();
+    }
+
+    /**
+     * Primer acceso: coste de crear el holder y obtener el valor por primera vez
+     * (un solo thread; la contención se mide en /stable-values/benchmark).
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 50)
+    public String firstAccessStableValue() {
+        return new StableValueComparison.StableValueHolder(LOADER).getConfig();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 50)
+    public String firstAccessDoubleChecked() {
+        return new StableValueComparison.DoubleCheckedHolder(LOADER).getConfig();
+    }
+}
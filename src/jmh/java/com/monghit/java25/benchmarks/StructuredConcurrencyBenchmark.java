@@ -0,0 +1,66 @@
+package com.monghit.java25.benchmarks;
+
+import com.monghit.java25.features.StructuredConcurrencyDemo;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Latencia de los métodos de fan-out de StructuredConcurrencyDemo. Los backends
+ * simulados duermen, así que se usa SampleTime para ver la distribución (p50/p99).
+ *
+ * fetchUserData usa un userId nuevo en cada invocación para medir el fan-out sin que
+ * lo absorban las cachés de user-data; fetchUserDataCached mide el camino de acierto.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class StructuredConcurrencyBenchmark {
+
+    private StructuredConcurrencyDemo demo;
+    private List<String> batch;
+    private final AtomicLong coldUsers = new AtomicLong();
+
+    @Setup
+    public void setUp() throws Exception {
+        demo = new StructuredConcurrencyDemo();
+        batch = IntStream.range(0, 10_000).mapToObj(i -> "item" + i).toList();
+        demo.fetchUserDataWithFailure("user123");
+    }
+
+    @Benchmark
+    public String fetchUserData() throws Exception {
+        return demo.fetchUserDataWithFailure("cold-user-" + coldUsers.incrementAndGet());
+    }
+
+    @Benchmark
+    public String fetchUserDataCached() throws Exception {
+        return demo.fetchUserDataWithFailure("user123");
+    }
+
+    @Benchmark
+    public String fetchFromMultipleSources() throws Exception {
+        return demo.fetchFromMultipleSources("query");
+    }
+
+    @Benchmark
+    public String processWithVirtualThreads() throws Exception {
+        return demo.processWithVirtualThreads("data");
+    }
+
+    @Benchmark
+    public List<String> processBatch() throws Exception {
+        return demo.processBatch(batch);
+    }
+
+    @Benchmark
+    public StructuredConcurrencyDemo.Summary aggregateData() throws Exception {
+        return demo.aggregateData("sales");
+    }
+}
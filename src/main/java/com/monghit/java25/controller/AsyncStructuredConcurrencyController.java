@@ -0,0 +1,97 @@
+package com.monghit.java25.controller;
+
+import com.monghit.java25.features.AsyncStructuredConcurrencyDemo;
+import com.monghit.java25.features.JsonScalarReader;
+import com.monghit.java25.features.StructuredConcurrencyDemo;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Variante no bloqueante de los endpoints /structured-concurrency/*.
+ *
+ * Los handlers devuelven CompletableFuture: Spring MVC libera el thread de la petición
+ * (procesamiento asíncrono de Servlet) y escribe la respuesta cuando el future completa.
+ * Mismas rutas y parámetros que Java25FeaturesController bajo /api/java25/async.
+ */
+@RestController
+@RequestMapping("/api/java25/async")
+public class AsyncStructuredConcurrencyController {
+
+    private final AsyncStructuredConcurrencyDemo asyncDemo;
+
+    public AsyncStructuredConcurrencyController(AsyncStructuredConcurrencyDemo asyncDemo) {
+        this.asyncDemo = asyncDemo;
+    }
+
+    @GetMapping("/structured-concurrency/user-data")
+    public CompletableFuture<ResponseEntity<String>> fetchUserData(@RequestParam String userId) {
+        return asyncDemo.fetchUserData(userId).thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/structured-concurrency/multi-source")
+    public CompletableFuture<ResponseEntity<String>> fetchFromMultipleSources(
+            @RequestParam String query,
+            @RequestParam(required = false) Long dbHedgeMs,
+            @RequestParam(required = false) Long apiHedgeMs) {
+        if (dbHedgeMs == null && apiHedgeMs == null) {
+            return asyncDemo.fetchFromMultipleSources(query).thenApply(ResponseEntity::ok);
+        }
+        if ((dbHedgeMs != null && dbHedgeMs < 0) || (apiHedgeMs != null && apiHedgeMs < 0)) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        var defaults = StructuredConcurrencyDemo.HedgingPolicy.DEFAULT;
+        var policy = new StructuredConcurrencyDemo.HedgingPolicy(
+                dbHedgeMs != null ? Duration.ofMillis(dbHedgeMs) : defaults.databaseDelay(),
+                apiHedgeMs != null ? Duration.ofMillis(apiHedgeMs) : defaults.apiDelay());
+        return asyncDemo.fetchFromMultipleSources(query, policy).thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/structured-concurrency/timeout")
+    public CompletableFuture<ResponseEntity<String>> fetchWithTimeout(
+            @RequestParam String userId,
+            @RequestParam(required = false) Long timeoutMs,
+            @RequestHeader(value = "X-Request-Timeout-Ms", required = false) Long headerTimeoutMs) {
+        Long deadlineMs = timeoutMs != null ? timeoutMs : headerTimeoutMs;
+        CompletableFuture<String> result = deadlineMs == null
+                ? asyncDemo.fetchWithTimeout(userId)
+                : asyncDemo.fetchWithTimeout(userId, Duration.ofMillis(deadlineMs));
+        return result.thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/structured-concurrency/virtual-threads")
+    public CompletableFuture<ResponseEntity<String>> processInParallel(@RequestParam String data) {
+        return asyncDemo.processInParallel(data).thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Lectura incremental del cuerpo como en la variante bloqueante: más de
+     * MAX_BATCH_ITEMS elementos responde 400 sin materializar el lote.
+     */
+    @PostMapping("/structured-concurrency/virtual-threads/batch")
+    public CompletableFuture<ResponseEntity<List<String>>> processBatch(
+            InputStream body,
+            @RequestParam(defaultValue = "" + StructuredConcurrencyDemo.DEFAULT_BATCH_SIZE) int batchSize)
+            throws IOException {
+        if (batchSize < 1) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        Optional<List<String>> items = JsonScalarReader.readStrings(body, StructuredConcurrencyDemo.MAX_BATCH_ITEMS);
+        if (items.isEmpty()) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        return asyncDemo.processBatch(items.get(), batchSize).thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/structured-concurrency/aggregate")
+    public CompletableFuture<ResponseEntity<StructuredConcurrencyDemo.Summary>> aggregateData(
+            @RequestParam String category) {
+        return asyncDemo.aggregateData(category).thenApply(ResponseEntity::ok);
+    }
+}
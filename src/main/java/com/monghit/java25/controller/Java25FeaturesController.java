@@ -4,13 +4,21 @@ import com.monghit.java25.features.*;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/api/java25")
 public class Java25FeaturesController {
 
+    static final String PARSE_STATUS_HEADER = "X-Parse-Status";
+    static final String CONVERSION_OUTCOME_HEADER = "X-Conversion-Outcome";
+
     private final PrimitivePatternMatchingDemo primitivePatternDemo;
     private final ScopedValuesDemo scopedValuesDemo;
     private final StructuredConcurrencyDemo structuredConcurrencyDemo;
@@ -62,27 +70,63 @@ public class Java25FeaturesController {
      * Primitive Pattern Matching endpoints
      */
     @PostMapping("/primitive-patterns/process")
-    public ResponseEntity<String> processPrimitive(@RequestBody Object value) {
-        String result = primitivePatternDemo.processPrimitive(value);
-        return ResponseEntity.ok(result);
+    public ResponseEntity<String> processPrimitive(@RequestBody(required = false) byte[] body) {
+        return withScalar(body, primitivePatternDemo::processPrimitive);
     }
 
     @PostMapping("/primitive-patterns/check-type")
-    public ResponseEntity<String> checkPrimitiveType(@RequestBody Object value) {
-        String result = primitivePatternDemo.checkPrimitiveType(value);
-        return ResponseEntity.ok(result);
+    public ResponseEntity<String> checkPrimitiveType(@RequestBody(required = false) byte[] body) {
+        return withScalar(body, primitivePatternDemo::checkPrimitiveType);
     }
 
+    /**
+     * Conversión estricta con el resultado en X-Conversion-Outcome: un valor no
+     * convertible (FAILED) responde 400; uno truncado (LOSSY) responde el valor.
+     */
     @PostMapping("/primitive-patterns/convert")
-    public ResponseEntity<Integer> convertToInt(@RequestBody Object value) {
-        int result = primitivePatternDemo.safeConvertToInt(value);
-        return ResponseEntity.ok(result);
+    public ResponseEntity<Integer> convertToInt(@RequestBody(required = false) byte[] body) {
+        ScalarParser.Parsed parsed = ScalarParser.parse(body);
+        if (!parsed.isOk()) {
+            return parseError(parsed);
+        }
+        StrictIntConverter.Conversion conversion = primitivePatternDemo.strictConvertToInt(parsed.value());
+        if (conversion.outcome() == StrictIntConverter.Outcome.FAILED) {
+            return ResponseEntity.badRequest()
+                    .header(CONVERSION_OUTCOME_HEADER, conversion.outcome().name())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .header(CONVERSION_OUTCOME_HEADER, conversion.outcome().name())
+                .body(conversion.value());
+    }
+
+    @PostMapping("/primitive-patterns/convert/strict")
+    public ResponseEntity<StrictIntConverter.Conversion> strictConvertToInt(
+            @RequestBody(required = false) byte[] body) {
+        return withScalar(body, primitivePatternDemo::strictConvertToInt);
     }
 
     @PostMapping("/primitive-patterns/validate")
-    public ResponseEntity<String> validateNumber(@RequestBody Object value) {
-        String result = primitivePatternDemo.validateNumber(value);
-        return ResponseEntity.ok(result);
+    public ResponseEntity<String> validateNumber(@RequestBody(required = false) byte[] body) {
+        return withScalar(body, primitivePatternDemo::validateNumber);
+    }
+
+    /**
+     * Parsea el cuerpo con ScalarParser (sin excepciones) y aplica la operación. Un cuerpo
+     * vacío, malformado o no escalar responde 400 con el estado en X-Parse-Status.
+     */
+    private static <T> ResponseEntity<T> withScalar(byte[] body, Function<Object, T> operation) {
+        ScalarParser.Parsed parsed = ScalarParser.parse(body);
+        if (!parsed.isOk()) {
+            return parseError(parsed);
+        }
+        return ResponseEntity.ok(operation.apply(parsed.value()));
+    }
+
+    private static <T> ResponseEntity<T> parseError(ScalarParser.Parsed parsed) {
+        return ResponseEntity.badRequest()
+                .header(PARSE_STATUS_HEADER, parsed.status().name())
+                .build();
     }
 
     /**
@@ -97,6 +141,15 @@ public class Java25FeaturesController {
         return ResponseEntity.ok(result);
     }
 
+    @GetMapping("/scoped-values/context-carrier")
+    public ResponseEntity<String> testScopedValuesContextCarrier(
+            @RequestParam String userId,
+            @RequestParam String requestId,
+            @RequestParam String tenantId) {
+        String result = scopedValuesDemo.processWithContextCarrier(userId, requestId, tenantId);
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/scoped-values/concurrency")
     public ResponseEntity<String> testScopedValuesWithConcurrency(
             @RequestParam String userId) throws Exception {
@@ -104,12 +157,29 @@ public class Java25FeaturesController {
         return ResponseEntity.ok(result);
     }
 
+    @GetMapping("/scoped-values/concurrency/inheritance")
+    public ResponseEntity<ScopedValuesDemo.InheritanceReport> testScopedValuesInheritance(
+            @RequestParam String userId,
+            @RequestParam(defaultValue = "1000") int children) throws Exception {
+        if (children < 1 || children > ScopedValuesDemo.MAX_CHILDREN) {
+            return ResponseEntity.badRequest().build();
+        }
+        ScopedValuesDemo.InheritanceReport result = scopedValuesDemo.verifyInheritance(userId, children);
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/scoped-values/nested")
     public ResponseEntity<String> testNestedScopes() {
         String result = scopedValuesDemo.nestedScopes();
         return ResponseEntity.ok(result);
     }
 
+    @GetMapping("/scoped-values/request-context")
+    public ResponseEntity<String> testRequestContext() throws Exception {
+        String result = scopedValuesDemo.describeRequestContext();
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/scoped-values/default")
     public ResponseEntity<Map<String, Object>> testDefaultValue() {
         Map<String, Object> response = new HashMap<>();
@@ -128,14 +198,38 @@ public class Java25FeaturesController {
     }
 
     @GetMapping("/structured-concurrency/multi-source")
-    public ResponseEntity<String> fetchFromMultipleSources(@RequestParam String query) throws Exception {
-        String result = structuredConcurrencyDemo.fetchFromMultipleSources(query);
+    public ResponseEntity<String> fetchFromMultipleSources(
+            @RequestParam String query,
+            @RequestParam(required = false) Long dbHedgeMs,
+            @RequestParam(required = false) Long apiHedgeMs) throws Exception {
+        if (dbHedgeMs == null && apiHedgeMs == null) {
+            return ResponseEntity.ok(structuredConcurrencyDemo.fetchFromMultipleSources(query));
+        }
+        if ((dbHedgeMs != null && dbHedgeMs < 0) || (apiHedgeMs != null && apiHedgeMs < 0)) {
+            return ResponseEntity.badRequest().build();
+        }
+        var defaults = StructuredConcurrencyDemo.HedgingPolicy.DEFAULT;
+        var policy = new StructuredConcurrencyDemo.HedgingPolicy(
+                dbHedgeMs != null ? Duration.ofMillis(dbHedgeMs) : defaults.databaseDelay(),
+                apiHedgeMs != null ? Duration.ofMillis(apiHedgeMs) : defaults.apiDelay());
+        String result = structuredConcurrencyDemo.fetchFromMultipleSources(query, policy);
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * El deadline se toma del parámetro timeoutMs o, si no viene, de la cabecera
+     * X-Request-Timeout-Ms que fija el gateway. Sin deadline se esperan ambas operaciones.
+     */
     @GetMapping("/structured-concurrency/timeout")
-    public ResponseEntity<String> fetchWithTimeout(@RequestParam String userId) throws Exception {
-        String result = structuredConcurrencyDemo.fetchWithTimeout(userId);
+    public ResponseEntity<String> fetchWithTimeout(
+            @RequestParam String userId,
+            @RequestParam(required = false) Long timeoutMs,
+            @RequestHeader(value = "X-Request-Timeout-Ms", required = false) Long headerTimeoutMs)
+            throws Exception {
+        Long deadlineMs = timeoutMs != null ? timeoutMs : headerTimeoutMs;
+        String result = deadlineMs == null
+                ? structuredConcurrencyDemo.fetchWithTimeout(userId)
+                : structuredConcurrencyDemo.fetchWithTimeout(userId, Duration.ofMillis(deadlineMs));
         return ResponseEntity.ok(result);
     }
 
@@ -145,6 +239,26 @@ public class Java25FeaturesController {
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * El cuerpo se lee de forma incremental con JsonScalarReader: un lote con más de
+     * MAX_BATCH_ITEMS elementos responde 400 sin llegar a materializarse en memoria.
+     */
+    @PostMapping("/structured-concurrency/virtual-threads/batch")
+    public ResponseEntity<List<String>> processBatch(
+            InputStream body,
+            @RequestParam(defaultValue = "" + StructuredConcurrencyDemo.DEFAULT_BATCH_SIZE) int batchSize)
+            throws Exception {
+        if (batchSize < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        Optional<List<String>> items = JsonScalarReader.readStrings(body, StructuredConcurrencyDemo.MAX_BATCH_ITEMS);
+        if (items.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<String> result = structuredConcurrencyDemo.processBatch(items.get(), batchSize);
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/structured-concurrency/aggregate")
     public ResponseEntity<StructuredConcurrencyDemo.Summary> aggregateData(
             @RequestParam String category) throws Exception {
@@ -168,8 +282,24 @@ public class Java25FeaturesController {
     }
 
     @GetMapping("/stable-values/expensive")
-    public ResponseEntity<StableValuesDemo.ExpensiveResult> getExpensiveResult() {
-        StableValuesDemo.ExpensiveResult result = stableValuesDemo.getExpensiveResult();
+    public ResponseEntity<StableValuesDemo.ExpensiveResult> getExpensiveResult(
+            @RequestParam(required = false) String key) {
+        StableValuesDemo.ExpensiveResult result = key == null
+                ? stableValuesDemo.getExpensiveResult()
+                : stableValuesDemo.getExpensiveResult(key);
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/stable-values/benchmark")
+    public ResponseEntity<StableValueComparison.ComparisonReport> benchmarkStableValues(
+            @RequestParam(defaultValue = "8") int threads,
+            @RequestParam(defaultValue = "1000000") int reads) throws Exception {
+        if (threads < 1 || threads > StableValueComparison.MAX_THREADS
+                || reads < 1 || reads > StableValueComparison.MAX_READS_PER_THREAD) {
+            return ResponseEntity.badRequest().build();
+        }
+        StableValueComparison.ComparisonReport result =
+                stableValuesDemo.compareWithTraditionalApproaches(threads, reads);
         return ResponseEntity.ok(result);
     }
 
@@ -197,6 +327,7 @@ public class Java25FeaturesController {
         health.put("status", "UP");
         health.put("javaVersion", System.getProperty("java.version"));
         health.put("application", "Java 25 Features Demo");
+        health.put("executionMode", Thread.currentThread().isVirtual() ? "virtual-threads" : "platform-threads");
         return ResponseEntity.ok(health);
     }
 }
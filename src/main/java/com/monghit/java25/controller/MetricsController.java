@@ -0,0 +1,84 @@
+package com.monghit.java25.controller;
+
+import com.monghit.java25.features.AdaptiveConcurrencyLimiter;
+import com.monghit.java25.features.SingleFlight;
+import com.monghit.java25.features.StructuredConcurrencyDemo;
+import com.monghit.java25.features.TenantBulkhead;
+import com.monghit.java25.features.TinyLfuCache;
+import com.monghit.java25.jfr.JfrMetricsService;
+import com.monghit.java25.jfr.VirtualThreadPinningDetector;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * Endpoints de métricas internas (junto a /api/java25/health)
+ */
+@RestController
+@RequestMapping("/api/java25/metrics")
+public class MetricsController {
+
+    private final JfrMetricsService jfrMetricsService;
+    private final VirtualThreadPinningDetector pinningDetector;
+    private final TenantBulkhead tenantBulkhead;
+    private final StructuredConcurrencyDemo structuredConcurrencyDemo;
+
+    public MetricsController(JfrMetricsService jfrMetricsService, VirtualThreadPinningDetector pinningDetector,
+                             TenantBulkhead tenantBulkhead, StructuredConcurrencyDemo structuredConcurrencyDemo) {
+        this.jfrMetricsService = jfrMetricsService;
+        this.pinningDetector = pinningDetector;
+        this.tenantBulkhead = tenantBulkhead;
+        this.structuredConcurrencyDemo = structuredConcurrencyDemo;
+    }
+
+    /**
+     * Histogramas de la ventana actual alimentados por el JFR streaming
+     */
+    @GetMapping("/jfr")
+    public ResponseEntity<JfrMetricsService.JfrMetrics> jfrMetrics() {
+        return ResponseEntity.ok(jfrMetricsService.snapshot());
+    }
+
+    /**
+     * Puntos de pinning de virtual threads detectados por encima del umbral
+     */
+    @GetMapping("/pinning")
+    public ResponseEntity<VirtualThreadPinningDetector.PinningReport> pinning() {
+        return ResponseEntity.ok(pinningDetector.report());
+    }
+
+    /**
+     * Peticiones admitidas, completadas y descartadas por el bulkhead de cada tenant
+     */
+    @GetMapping("/tenants")
+    public ResponseEntity<Map<String, TenantBulkhead.TenantStats>> tenants() {
+        return ResponseEntity.ok(tenantBulkhead.stats());
+    }
+
+    /**
+     * Límite adaptativo, llamadas en vuelo y rechazos de cada backend simulado
+     */
+    @GetMapping("/backends")
+    public ResponseEntity<Map<String, AdaptiveConcurrencyLimiter.Stats>> backends() {
+        return ResponseEntity.ok(structuredConcurrencyDemo.backendStats());
+    }
+
+    /**
+     * Coalescencia de consultas duplicadas en /structured-concurrency/user-data
+     */
+    @GetMapping("/single-flight")
+    public ResponseEntity<SingleFlight.Stats> singleFlight() {
+        return ResponseEntity.ok(structuredConcurrencyDemo.userDataFlightStats());
+    }
+
+    /**
+     * Ratio de aciertos, expulsiones y ocupación de las cachés de user-data
+     */
+    @GetMapping("/caches")
+    public ResponseEntity<Map<String, TinyLfuCache.CacheStats>> caches() {
+        return ResponseEntity.ok(structuredConcurrencyDemo.userDataCacheStats());
+    }
+}
@@ -0,0 +1,59 @@
+package com.monghit.java25.controller;
+
+import com.monghit.java25.features.PrimitiveBatchProcessor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Endpoints por lotes de Primitive Pattern Matching.
+ *
+ * Aceptan un array JSON (application/json) o NDJSON (application/x-ndjson) y devuelven
+ * los resultados en el mismo formato, en streaming: cada valor se procesa y se escribe
+ * conforme se lee del cuerpo de la petición.
+ */
+@RestController
+@RequestMapping("/api/java25/primitive-patterns")
+public class PrimitiveBatchController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType(PrimitiveBatchProcessor.NDJSON_VALUE);
+
+    private final PrimitiveBatchProcessor batchProcessor;
+
+    public PrimitiveBatchController(PrimitiveBatchProcessor batchProcessor) {
+        this.batchProcessor = batchProcessor;
+    }
+
+    @PostMapping(value = "/{operation:process|check-type|convert|validate}/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, PrimitiveBatchProcessor.NDJSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> processBatch(
+            @PathVariable String operation,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        var batchOperation = PrimitiveBatchProcessor.Operation.fromPath(operation);
+        boolean ndjson = NDJSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+
+        StreamingResponseBody stream = out -> batchProcessor.process(batchOperation, body, out, ndjson);
+        return ResponseEntity.ok()
+                .contentType(new MediaType(ndjson ? NDJSON : MediaType.APPLICATION_JSON, StandardCharsets.UTF_8))
+                .body(stream);
+    }
+
+    /**
+     * Código de validateNumber por elemento e histograma sobre una columna de enteros,
+     * calculados con BulkValidator (Vector API si está disponible). La columna se lee
+     * y se responde en streaming por bloques de buffers primitivos.
+     */
+    @PostMapping("/validate/bulk")
+    public ResponseEntity<StreamingResponseBody> validateBulk(InputStream body) {
+        StreamingResponseBody stream = out -> batchProcessor.validateBulk(body, out);
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8))
+                .body(stream);
+    }
+}
@@ -0,0 +1,140 @@
+package com.monghit.java25.features;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Límite de concurrencia adaptativo (AIMD) para un backend.
+ *
+ * Con virtual threads nada impide abrir decenas de miles de llamadas simultáneas contra
+ * un backend que solo tolera unos cientos. El limitador deja pasar como mucho limit
+ * llamadas en vuelo y rechaza el resto al instante con BackendOverloadedException.
+ * El límite se ajusta con cada muestra de latencia:
+ * - Aumento aditivo (+1) si la llamada fue rápida y el límite se estaba usando
+ *   (al menos la mitad de los permisos ocupados al empezar).
+ * - Disminución multiplicativa (x backoffRatio) si la latencia supera tolerance veces
+ *   la latencia mínima observada (la del backend sin carga), o si la llamada falla.
+ * Las llamadas interrumpidas (subtareas canceladas) no aportan muestra.
+ */
+public final class AdaptiveConcurrencyLimiter {
+
+    private final String name;
+    private final Settings settings;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    // Escritos solo bajo el monitor en onSample; leídos sin bloqueo en tryAcquire
+    private volatile int limit;
+    private volatile long minLatencyNanos;
+
+    public AdaptiveConcurrencyLimiter(String name, Settings settings) {
+        this.name = name;
+        this.settings = settings;
+        this.limit = settings.initialLimit();
+    }
+
+    /**
+     * Ejecuta la llamada al backend con un permiso, o lanza BackendOverloadedException
+     * sin esperar si el límite actual está ocupado.
+     */
+    public <T> T call(Supplier<T> backend) {
+        int inFlightAtStart = tryAcquire();
+        if (inFlightAtStart < 0) {
+            rejected.increment();
+            throw new BackendOverloadedException(name, limit);
+        }
+        accepted.increment();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            T result = backend.get();
+            failed = false;
+            return result;
+        } finally {
+            inFlight.decrementAndGet();
+            if (failed) {
+                dropped.increment();
+                onSample(0, inFlightAtStart, true);
+            } else if (!Thread.currentThread().isInterrupted()) {
+                onSample(System.nanoTime() - start, inFlightAtStart, false);
+            }
+        }
+    }
+
+    /**
+     * Reserva un permiso si hay hueco; devuelve las llamadas en vuelo antes de la
+     * reserva, o -1 si el límite está ocupado.
+     */
+    private int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return -1;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current;
+            }
+        }
+    }
+
+    synchronized void onSample(long latencyNanos, int inFlightAtStart, boolean failed) {
+        if (failed) {
+            decrease();
+            return;
+        }
+        if (minLatencyNanos == 0 || latencyNanos < minLatencyNanos) {
+            minLatencyNanos = latencyNanos;
+        }
+        if (latencyNanos > minLatencyNanos * settings.tolerance()) {
+            decrease();
+        } else if (inFlightAtStart * 2 >= limit) {
+            limit = Math.min(settings.maxLimit(), limit + 1);
+        }
+    }
+
+    private void decrease() {
+        limit = Math.max(settings.minLimit(), (int) (limit * settings.backoffRatio()));
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public Stats stats() {
+        return new Stats(limit, inFlight.get(), accepted.sum(), rejected.sum(), dropped.sum(),
+                minLatencyNanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    /**
+     * Parámetros del algoritmo AIMD.
+     */
+    public record Settings(int initialLimit, int minLimit, int maxLimit, double tolerance, double backoffRatio) {
+
+        public static final Settings DEFAULT = new Settings(50, 1, 200, 2.0, 0.9);
+
+        public Settings {
+            if (minLimit < 1 || initialLimit < minLimit || maxLimit < initialLimit) {
+                throw new IllegalArgumentException("Debe cumplirse 1 <= minLimit <= initialLimit <= maxLimit");
+            }
+            if (tolerance < 1.0 || backoffRatio <= 0.0 || backoffRatio >= 1.0) {
+                throw new IllegalArgumentException("tolerance debe ser >= 1 y backoffRatio estar en (0, 1)");
+            }
+        }
+    }
+
+    /**
+     * Estado del limitador: límite actual, llamadas en vuelo, contadores acumulados y
+     * latencia mínima observada (referencia sin carga).
+     */
+    public record Stats(int limit, int inFlight, long accepted, long rejected, long dropped, double minLatencyMillis) {
+    }
+}
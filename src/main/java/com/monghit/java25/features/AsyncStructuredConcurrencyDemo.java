@@ -0,0 +1,290 @@
+package com.monghit.java25.features;
+
+import com.monghit.java25.features.StructuredConcurrencyDemo.HedgingPolicy;
+import com.monghit.java25.features.StructuredConcurrencyDemo.Summary;
+import com.monghit.java25.features.StructuredConcurrencyDemo.SummaryAccumulator;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Variante no bloqueante de StructuredConcurrencyDemo basada en CompletableFuture.
+ *
+ * Expone las mismas operaciones y devuelve los mismos resultados, pero los backends
+ * simulados completan sus futures desde un temporizador (CompletableFuture.delayedExecutor)
+ * en lugar de bloquear un thread con Thread.sleep. Ningún thread queda ocupado mientras
+ * se espera a un backend, así que ambos modelos se pueden comparar bajo la misma carga.
+ *
+ * A diferencia de StructuredTaskScope no hay jerarquía de tareas: la cancelación de los
+ * perdedores y los deadlines se componen a mano sobre los futures.
+ */
+@Service
+public class AsyncStructuredConcurrencyDemo {
+
+    /**
+     * Fan-out de las tres consultas de usuario; completa cuando terminan las tres.
+     */
+    public CompletableFuture<String> fetchUserData(String userId) {
+        CompletableFuture<String> user = fetchUserProfile(userId);
+        CompletableFuture<String> orders = fetchUserOrders(userId);
+        CompletableFuture<String> preferences = fetchUserPreferences(userId);
+
+        return CompletableFuture.allOf(user, orders, preferences)
+                .thenApply(ignored -> String.format("User: %s, Orders: %s, Preferences: %s",
+                        user.join(), orders.join(), preferences.join()));
+    }
+
+    /**
+     * Carrera "first success wins" con la política de hedging por defecto.
+     */
+    public CompletableFuture<String> fetchFromMultipleSources(String query) {
+        return fetchFromMultipleSources(query, HedgingPolicy.DEFAULT);
+    }
+
+    /**
+     * Carrera entre caché, base de datos y API con hedging.
+     *
+     * El primer resultado correcto completa el future devuelto y cancela las llamadas a
+     * backend ya lanzadas que siguen en curso; los backends caros solo se consultan si al
+     * vencer su retraso todavía no hay ganador. Si todas las fuentes fallan, el future
+     * falla con el último error.
+     */
+    public CompletableFuture<String> fetchFromMultipleSources(String query, HedgingPolicy policy) {
+        CompletableFuture<String> winner = new CompletableFuture<>();
+        // Futures de los backends realmente lanzados: cancelar los de thenCompose no los alcanza
+        Queue<CompletableFuture<String>> started = new ConcurrentLinkedQueue<>();
+        List<CompletableFuture<String>> sources = List.of(
+                launch(winner, started, () -> fetchFromCache(query)),
+                hedged(policy.databaseDelay(), winner,
+                        () -> launch(winner, started, () -> fetchFromDatabase(query))),
+                hedged(policy.apiDelay(), winner,
+                        () -> launch(winner, started, () -> fetchFromAPI(query))));
+
+        AtomicInteger failures = new AtomicInteger();
+        for (CompletableFuture<String> source : sources) {
+            source.whenComplete((value, error) -> {
+                if (error == null && value != null) {
+                    winner.complete(value);
+                } else if (failures.incrementAndGet() == sources.size()) {
+                    winner.completeExceptionally(error != null
+                            ? error
+                            : new IllegalStateException("Ninguna fuente devolvió resultado para " + query));
+                }
+            });
+        }
+        winner.whenComplete((value, error) -> {
+            started.forEach(call -> call.cancel(false));
+            sources.forEach(source -> source.cancel(false));
+        });
+        return winner;
+    }
+
+    /**
+     * Ejecuta ambas operaciones lentas en paralelo y espera a las dos (sin deadline).
+     */
+    public CompletableFuture<String> fetchWithTimeout(String userId) {
+        return partial(slowOperation1(userId), "slowOperation1")
+                .thenCombine(partial(slowOperation2(userId), "slowOperation2"),
+                        (op1, op2) -> op1 + " | " + op2);
+    }
+
+    /**
+     * Ejecuta ambas operaciones lentas en paralelo con un deadline (orTimeout): devuelve
+     * lo que haya terminado y un marcador "[timeout]" por cada parte que no llegó a tiempo.
+     */
+    public CompletableFuture<String> fetchWithTimeout(String userId, Duration timeout) {
+        if (!timeout.isPositive()) {
+            return CompletableFuture.completedFuture(
+                    timeoutMarker("slowOperation1") + " | " + timeoutMarker("slowOperation2"));
+        }
+        long millis = timeout.toMillis();
+        return partial(slowOperation1(userId).orTimeout(millis, TimeUnit.MILLISECONDS), "slowOperation1")
+                .thenCombine(partial(slowOperation2(userId).orTimeout(millis, TimeUnit.MILLISECONDS),
+                        "slowOperation2"), (op1, op2) -> op1 + " | " + op2);
+    }
+
+    private static CompletableFuture<String> partial(CompletableFuture<String> operation, String name) {
+        return operation.handle((value, error) -> {
+            if (error == null) {
+                return value;
+            }
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            return cause instanceof TimeoutException ? timeoutMarker(name) : "[error] " + name;
+        });
+    }
+
+    private static String timeoutMarker(String operation) {
+        return "[timeout] " + operation;
+    }
+
+    /**
+     * Procesa las tres etapas en paralelo sobre el pool común.
+     */
+    public CompletableFuture<String> processInParallel(String data) {
+        CompletableFuture<String> result1 = CompletableFuture.supplyAsync(() -> processData1(data));
+        CompletableFuture<String> result2 = CompletableFuture.supplyAsync(() -> processData2(data));
+        CompletableFuture<String> result3 = CompletableFuture.supplyAsync(() -> processData3(data));
+
+        return CompletableFuture.allOf(result1, result2, result3)
+                .thenApply(ignored -> String.format("Resultados: [%s, %s, %s]",
+                        result1.join(), result2.join(), result3.join()));
+    }
+
+    /**
+     * Procesamiento masivo por lotes; los resultados mantienen el orden de entrada.
+     */
+    public CompletableFuture<List<String>> processBatch(List<String> items, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize debe ser positivo: " + batchSize);
+        }
+        List<CompletableFuture<List<String>>> batches = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += batchSize) {
+            List<String> batch = items.subList(from, Math.min(from + batchSize, items.size()));
+            batches.add(CompletableFuture.supplyAsync(() -> batch.stream().map(this::processItem).toList()));
+        }
+
+        return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    List<String> results = new ArrayList<>(items.size());
+                    batches.forEach(batch -> results.addAll(batch.join()));
+                    return results;
+                });
+    }
+
+    private String processItem(String data) {
+        return "[" + processData1(data) + ", " + processData2(data) + ", " + processData3(data) + "]";
+    }
+
+    /**
+     * Agrega los datos de una categoría usando una partición por core disponible.
+     */
+    public CompletableFuture<Summary> aggregateData(String category) {
+        return aggregateData(category, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Agrega los datos de una categoría con un SummaryAccumulator por partición.
+     */
+    public CompletableFuture<Summary> aggregateData(String category, int partitions) {
+        if (partitions <= 0) {
+            throw new IllegalArgumentException("partitions debe ser positivo: " + partitions);
+        }
+        int rows = StructuredConcurrencyDemo.CATEGORY_ROWS;
+        int chunk = Math.max(1, (rows + partitions - 1) / partitions);
+
+        List<CompletableFuture<SummaryAccumulator>> partials = new ArrayList<>();
+        for (int from = 0; from < rows; from += chunk) {
+            int start = from;
+            int end = Math.min(from + chunk, rows);
+            partials.add(CompletableFuture.supplyAsync(() -> {
+                SummaryAccumulator accumulator = new SummaryAccumulator();
+                for (int row = start; row < end; row++) {
+                    accumulator.add(StructuredConcurrencyDemo.categoryValue(category, row));
+                }
+                return accumulator;
+            }));
+        }
+
+        return CompletableFuture.allOf(partials.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    SummaryAccumulator total = new SummaryAccumulator();
+                    partials.forEach(partial -> total.merge(partial.join()));
+                    return total.toSummary();
+                });
+    }
+
+    /**
+     * Espera el retraso de hedging en el temporizador y consulta el backend solo si
+     * todavía no hay ganador; si lo hay, completa con null sin tocar el backend.
+     */
+    private static CompletableFuture<String> hedged(Duration delay, CompletableFuture<String> winner,
+                                                    Supplier<CompletableFuture<String>> backend) {
+        if (!delay.isPositive()) {
+            return backend.get();
+        }
+        return CompletableFuture.runAsync(() -> {}, after(delay.toMillis()))
+                .thenCompose(ignored -> winner.isDone()
+                        ? CompletableFuture.<String>completedFuture(null)
+                        : backend.get());
+    }
+
+    /**
+     * Lanza una llamada a backend y la registra para poder cancelarla. Si el ganador llegó
+     * mientras se lanzaba, whenComplete ya recorrió la cola y se cancela aquí.
+     */
+    private static CompletableFuture<String> launch(CompletableFuture<String> winner,
+                                                    Queue<CompletableFuture<String>> started,
+                                                    Supplier<CompletableFuture<String>> backend) {
+        CompletableFuture<String> call = backend.get();
+        started.add(call);
+        if (winner.isDone()) {
+            call.cancel(false);
+        }
+        return call;
+    }
+
+    // Backends simulados: mismas latencias que StructuredConcurrencyDemo, sin bloquear threads
+
+    private CompletableFuture<String> fetchUserProfile(String userId) {
+        return delayed(100, () -> "Profile-" + userId);
+    }
+
+    private CompletableFuture<String> fetchUserOrders(String userId) {
+        return delayed(150, () -> "Orders-" + userId);
+    }
+
+    private CompletableFuture<String> fetchUserPreferences(String userId) {
+        return delayed(80, () -> "Preferences-" + userId);
+    }
+
+    private CompletableFuture<String> fetchFromDatabase(String query) {
+        return delayed(200, () -> "DB-Result: " + query);
+    }
+
+    private CompletableFuture<String> fetchFromCache(String query) {
+        return delayed(50, () -> "Cache-Result: " + query);
+    }
+
+    private CompletableFuture<String> fetchFromAPI(String query) {
+        return delayed(300, () -> "API-Result: " + query);
+    }
+
+    private CompletableFuture<String> slowOperation1(String userId) {
+        return delayed(1000, () -> "SlowOp1-" + userId);
+    }
+
+    private CompletableFuture<String> slowOperation2(String userId) {
+        return delayed(1500, () -> "SlowOp2-" + userId);
+    }
+
+    private String processData1(String data) {
+        return "Processed1-" + data;
+    }
+
+    private String processData2(String data) {
+        return "Processed2-" + data;
+    }
+
+    private String processData3(String data) {
+        return "Processed3-" + data;
+    }
+
+    private static <T> CompletableFuture<T> delayed(long millis, Supplier<T> value) {
+        return CompletableFuture.supplyAsync(value, after(millis));
+    }
+
+    private static Executor after(long millis) {
+        return CompletableFuture.delayedExecutor(millis, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,26 @@
+package com.monghit.java25.features;
+
+/**
+ * Rechazo inmediato de una llamada porque el backend ya tiene ocupado su límite de
+ * concurrencia. Sin stack trace: en una avalancha se lanzan miles por segundo y la
+ * causa queda descrita por el backend y el límite.
+ */
+public class BackendOverloadedException extends RuntimeException {
+
+    private final String backend;
+    private final int limit;
+
+    public BackendOverloadedException(String backend, int limit) {
+        super("Backend " + backend + " saturado (límite " + limit + ")", null, false, false);
+        this.backend = backend;
+        this.limit = limit;
+    }
+
+    public String getBackend() {
+        return backend;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
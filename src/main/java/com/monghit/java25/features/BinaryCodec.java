@@ -0,0 +1,67 @@
+package com.monghit.java25.features;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Codificación binaria compacta de un tipo para guardarlo en un MemorySegment
+ * (OffHeapCache). La longitud total la guarda quien llama, así que los valores no
+ * llevan prefijo de tamaño: un String son solo sus bytes UTF-8.
+ *
+ * encode() produce los bytes una sola vez (un String se pasa a UTF-8 una vez por
+ * put) y quien llama los copia a su destino. Los campos se leen sin alineación porque
+ * los bytes de clave y valor van seguidos en el segmento.
+ */
+public interface BinaryCodec<T> {
+
+    ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED;
+
+    /**
+     * Codifica value en un segmento de heap; su byteSize() es el tamaño codificado.
+     */
+    MemorySegment encode(T value);
+
+    /**
+     * Lee el valor codificado en source[offset, offset + size).
+     */
+    T read(MemorySegment source, long offset, int size);
+
+    /**
+     * String como UTF-8 sin terminador.
+     */
+    BinaryCodec<String> STRING = new BinaryCodec<>() {
+        @Override
+        public MemorySegment encode(String value) {
+            return MemorySegment.ofArray(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String read(MemorySegment source, long offset, int size) {
+            byte[] bytes = new byte[size];
+            MemorySegment.copy(source, ValueLayout.JAVA_BYTE, offset, bytes, 0, size);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    /**
+     * ExpensiveResult: value (int) seguido de data en UTF-8.
+     */
+    BinaryCodec<StableValuesDemo.ExpensiveResult> EXPENSIVE_RESULT = new BinaryCodec<>() {
+        @Override
+        public MemorySegment encode(StableValuesDemo.ExpensiveResult value) {
+            byte[] data = value.data().getBytes(StandardCharsets.UTF_8);
+            MemorySegment encoded = MemorySegment.ofArray(new byte[Integer.BYTES + data.length]);
+            encoded.set(INT, 0, value.value());
+            MemorySegment.copy(data, 0, encoded, ValueLayout.JAVA_BYTE, Integer.BYTES, data.length);
+            return encoded;
+        }
+
+        @Override
+        public StableValuesDemo.ExpensiveResult read(MemorySegment source, long offset, int size) {
+            int value = source.get(INT, offset);
+            String data = STRING.read(source, offset + Integer.BYTES, size - Integer.BYTES);
+            return new StableValuesDemo.ExpensiveResult(data, value);
+        }
+    };
+}
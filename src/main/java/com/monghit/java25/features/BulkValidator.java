@@ -0,0 +1,70 @@
+package com.monghit.java25.features;
+
+/**
+ * Validación masiva de columnas numéricas con los buckets de validateNumber.
+ *
+ * Si el módulo jdk.incubator.vector está cargado (--add-modules jdk.incubator.vector)
+ * delega en VectorizedClassifier; si no, en el bucle escalar de PrimitiveClassifier.
+ * Ambos producen los mismos códigos y conteos, así que el llamador no necesita saber
+ * qué implementación se usa.
+ */
+public final class BulkValidator {
+
+    /**
+     * true si la Vector API está disponible en esta JVM.
+     */
+    public static final boolean VECTORIZED =
+            ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private BulkValidator() {
+    }
+
+    /**
+     * Clasifica values en codes y acumula los conteos por código en counts
+     * (tamaño PrimitiveClassifier.CODES).
+     */
+    public static void validate(int[] values, byte[] codes, long[] counts) {
+        if (VECTORIZED) {
+            VectorizedClassifier.classify(values, codes, counts);
+        } else {
+            PrimitiveClassifier.classify(values, codes, counts);
+        }
+    }
+
+    public static void validate(long[] values, byte[] codes, long[] counts) {
+        if (VECTORIZED) {
+            VectorizedClassifier.classify(values, codes, counts);
+        } else {
+            PrimitiveClassifier.classify(values, codes, counts);
+        }
+    }
+
+    /**
+     * Conveniencia: clasifica una columna completa y devuelve códigos y conteos.
+     */
+    public static Validation validate(int[] values) {
+        byte[] codes = new byte[values.length];
+        long[] counts = new long[PrimitiveClassifier.CODES];
+        validate(values, codes, counts);
+        return new Validation(codes, counts);
+    }
+
+    public static Validation validate(long[] values) {
+        byte[] codes = new byte[values.length];
+        long[] counts = new long[PrimitiveClassifier.CODES];
+        validate(values, codes, counts);
+        return new Validation(codes, counts);
+    }
+
+    /**
+     * Nombre de la implementación activa.
+     */
+    public static String implementation() {
+        return VECTORIZED ? "vector-api" : "scalar";
+    }
+
+    /**
+     * Códigos por elemento y conteos por código (índice = código de PrimitiveClassifier).
+     */
+    public record Validation(byte[] codes, long[] counts) {}
+}
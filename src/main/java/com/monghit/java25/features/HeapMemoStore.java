@@ -0,0 +1,50 @@
+package com.monghit.java25.features;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * MemoStore en el heap acotado a maxEntries con expulsión FIFO (la clave más antigua
+ * sale primero).
+ */
+public final class HeapMemoStore<K, V> implements MemoStore<K, V> {
+
+    private final int maxEntries;
+    private final ConcurrentHashMap<K, V> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<K> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    public HeapMemoStore(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries debe ser positivo: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public V get(K key) {
+        return entries.get(key);
+    }
+
+    @Override
+    public void put(K key, V value) {
+        if (entries.put(key, value) == null) {
+            insertionOrder.add(key);
+            evictIfNeeded();
+        }
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictIfNeeded() {
+        while (entries.size() > maxEntries) {
+            K oldest = insertionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            entries.remove(oldest);
+        }
+    }
+}
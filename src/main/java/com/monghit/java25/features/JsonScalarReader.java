@@ -0,0 +1,274 @@
+package com.monghit.java25.features;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Lector incremental de valores escalares JSON desde un InputStream.
+ *
+ * Acepta un array JSON ([1, "a", true, ...]) o NDJSON (un valor por línea); el
+ * formato se detecta por el primer byte significativo. Lee con un buffer fijo y
+ * devuelve un valor cada vez, así que la memoria no depende del tamaño del lote.
+ *
+ * Cada valor se decodifica con ScalarParser y lleva su propio Status: un elemento
+ * inválido (número mal formado, literal desconocido, objeto o array anidado) se salta
+ * y se informa con status() sin interrumpir el lote. Solo los errores de estructura
+ * que impiden seguir leyendo (array o string sin cerrar) lanzan MalformedJsonException;
+ * PrimitiveBatchProcessor la convierte en un registro de error final del lote.
+ * El separador ',' es opcional (lector tolerante).
+ */
+public final class JsonScalarReader {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final int MAX_TOKEN_LENGTH = 64;
+    private static final int MAX_STRING_BYTES = 64 * 1024;
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int pos;
+    private int limit;
+    private long consumed;
+
+    private final byte[] token = new byte[MAX_TOKEN_LENGTH];
+    private byte[] string = new byte[256];
+
+    private boolean started;
+    private boolean array;
+    private boolean finished;
+    private ScalarParser.Status status = ScalarParser.Status.OK;
+
+    public JsonScalarReader(InputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * Indica si quedan valores; consume los separadores hasta el siguiente valor.
+     */
+    public boolean hasNext() throws IOException {
+        if (finished) {
+            return false;
+        }
+        int b = skipSeparators();
+        if (b == -1) {
+            if (array) {
+                throw malformed("array sin cerrar");
+            }
+            finished = true;
+            return false;
+        }
+        if (array && b == ']') {
+            pos++;
+            if (skipSeparators() != -1) {
+                throw malformed("contenido tras el cierre del array");
+            }
+            finished = true;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Lee el siguiente valor escalar. Debe ir precedido de hasNext(); si status() no es
+     * OK tras la llamada, el valor devuelto es null y el elemento no es válido.
+     */
+    public Object next() throws IOException {
+        int b = peek();
+        if (b == '"') {
+            return readString();
+        }
+        if (b == '{' || b == '[') {
+            skipContainer();
+            return invalid(ScalarParser.Status.UNSUPPORTED);
+        }
+        return readToken();
+    }
+
+    /**
+     * Lee un array JSON de strings sin materializar nunca más de maxValues: la lectura
+     * se detiene en cuanto aparece el valor maxValues + 1, sin consumir el resto del
+     * cuerpo. Devuelve Optional.empty() si la entrada no es un array, tiene demasiados
+     * valores, algún elemento no es un string o la estructura es inválida.
+     */
+    public static Optional<List<String>> readStrings(InputStream in, int maxValues) throws IOException {
+        JsonScalarReader reader = new JsonScalarReader(in);
+        List<String> values = new ArrayList<>();
+        try {
+            while (reader.hasNext()) {
+                if (!reader.array || values.size() == maxValues
+                        || !(reader.next() instanceof String value)) {
+                    return Optional.empty();
+                }
+                values.add(value);
+            }
+        } catch (MalformedJsonException e) {
+            return Optional.empty();
+        }
+        return reader.array ? Optional.of(values) : Optional.empty();
+    }
+
+    /**
+     * Estado del último valor devuelto por next().
+     */
+    public ScalarParser.Status status() {
+        return status;
+    }
+
+    /**
+     * Posición (en bytes) del lector dentro del stream.
+     */
+    public long position() {
+        return consumed + pos;
+    }
+
+    private int skipSeparators() throws IOException {
+        while (true) {
+            int b = peek();
+            if (b == -1) {
+                return -1;
+            }
+            if (ScalarParser.isWhitespace(b) || (array && b == ',')) {
+                pos++;
+            } else if (!started && b == '[') {
+                started = true;
+                array = true;
+                pos++;
+            } else {
+                started = true;
+                return b;
+            }
+        }
+    }
+
+    /**
+     * Número o literal: se lee hasta el siguiente delimitador y se decodifica con
+     * ScalarParser. Un token demasiado largo se descarta entero como MALFORMED.
+     */
+    private Object readToken() throws IOException {
+        int length = 0;
+        boolean overflow = false;
+        int b;
+        while ((b = peek()) != -1 && !isDelimiter(b)) {
+            if (length < MAX_TOKEN_LENGTH) {
+                token[length++] = (byte) b;
+            } else {
+                overflow = true;
+            }
+            pos++;
+        }
+        if (length == 0) {
+            // Delimitador fuera de lugar (p. ej. ',' en NDJSON): se consume para avanzar
+            pos++;
+            return invalid(ScalarParser.Status.MALFORMED);
+        }
+        if (overflow) {
+            return invalid(ScalarParser.Status.MALFORMED);
+        }
+        return accept(ScalarParser.parse(token, 0, length));
+    }
+
+    private Object readString() throws IOException {
+        int length = 0;
+        boolean escaped = false;
+        boolean overflow = false;
+        string[length++] = (byte) '"';
+        pos++;
+        while (true) {
+            int b = peek();
+            if (b == -1) {
+                throw malformed("string sin cerrar");
+            }
+            pos++;
+            if (!overflow) {
+                if (length == string.length) {
+                    if (length == MAX_STRING_BYTES) {
+                        overflow = true;
+                    } else {
+                        string = Arrays.copyOf(string, Math.min(MAX_STRING_BYTES, length * 2));
+                    }
+                }
+                if (!overflow) {
+                    string[length++] = (byte) b;
+                }
+            }
+            if (!escaped && b == '"') {
+                break;
+            }
+            escaped = !escaped && b == '\\';
+        }
+        if (overflow) {
+            return invalid(ScalarParser.Status.MALFORMED);
+        }
+        return accept(ScalarParser.parse(string, 0, length));
+    }
+
+    /**
+     * Descarta un objeto o array anidado completo, respetando los strings.
+     */
+    private void skipContainer() throws IOException {
+        int depth = 0;
+        boolean inString = false;
+        boolean escaped = false;
+        while (true) {
+            int b = peek();
+            if (b == -1) {
+                throw malformed("objeto o array sin cerrar");
+            }
+            pos++;
+            if (inString) {
+                if (!escaped && b == '"') {
+                    inString = false;
+                }
+                escaped = !escaped && b == '\\';
+            } else if (b == '"') {
+                inString = true;
+            } else if (b == '{' || b == '[') {
+                depth++;
+            } else if ((b == '}' || b == ']') && --depth == 0) {
+                return;
+            }
+        }
+    }
+
+    private Object accept(ScalarParser.Parsed parsed) {
+        status = parsed.status();
+        return parsed.value();
+    }
+
+    private Object invalid(ScalarParser.Status invalidStatus) {
+        status = invalidStatus;
+        return null;
+    }
+
+    private int peek() throws IOException {
+        if (pos == limit) {
+            consumed += limit;
+            pos = 0;
+            limit = Math.max(0, in.read(buffer));
+            if (limit == 0) {
+                return -1;
+            }
+        }
+        return buffer[pos] & 0xFF;
+    }
+
+    private boolean isDelimiter(int b) {
+        return ScalarParser.isWhitespace(b) || b == ',' || (array && b == ']');
+    }
+
+    private IOException malformed(String reason) {
+        return new MalformedJsonException("JSON inválido en el byte " + position() + ": " + reason);
+    }
+
+    /**
+     * Entrada cuya estructura impide seguir leyendo valores.
+     */
+    public static final class MalformedJsonException extends IOException {
+        public MalformedJsonException(String message) {
+            super(message);
+        }
+    }
+}
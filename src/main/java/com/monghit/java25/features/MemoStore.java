@@ -0,0 +1,31 @@
+package com.monghit.java25.features;
+
+/**
+ * Almacén de los valores ya calculados por StableValueMemoizer.
+ *
+ * El memoizador solo coordina el cálculo (una vez por clave); dónde viven los
+ * resultados lo decide la implementación: HeapMemoStore en el heap con expulsión FIFO,
+ * u OffHeapCache fuera del heap, donde el tamaño de la caché no aumenta el trabajo del GC.
+ */
+public interface MemoStore<K, V> extends AutoCloseable {
+
+    /**
+     * Valor guardado para la clave, o null si no está (nunca calculado o expulsado).
+     */
+    V get(K key);
+
+    /**
+     * Guarda el valor; la implementación puede expulsar otras entradas, o descartar
+     * este valor si no cabe nunca.
+     */
+    void put(K key, V value);
+
+    int size();
+
+    /**
+     * Libera los recursos del almacén; después get() siempre devuelve null.
+     */
+    @Override
+    default void close() {
+    }
+}
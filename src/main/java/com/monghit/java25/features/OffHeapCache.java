@@ -0,0 +1,317 @@
+package com.monghit.java25.features;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Caché clave/valor fuera del heap sobre la Foreign Function & Memory API.
+ *
+ * Toda la memoria se reserva al crearla en un Arena compartido y se libera con
+ * close(), así que el GC no ve ni recorre las entradas: su coste no crece con el
+ * tamaño de la caché. Cada get() decodifica una copia nueva del valor en el heap.
+ *
+ * Estructura:
+ * - Índice de direccionamiento abierto (sondeo lineal, factor de carga <= 0,5): un
+ *   long por hueco con el hash de la clave (32 bits altos) y el desplazamiento de la
+ *   entrada en unidades de 8 bytes (32 bits bajos, 0 = hueco libre). Los borrados
+ *   desplazan hacia atrás las entradas siguientes, sin lápidas.
+ * - Región de datos circular de solo escritura al final (append): cabecera de 16 bytes
+ *   (longitud de clave, longitud de valor, hash) seguida de clave y valor codificados
+ *   con sus BinaryCodec, alineado a 8 bytes. Al no caber una entrada se expulsan las
+ *   más antiguas (FIFO); si no cabe antes del final de la región se salta al principio
+ *   dejando una marca WRAP.
+ *
+ * Límites explícitos: maxEntries entradas vivas y maxBytes bytes de datos. Una entrada
+ * mayor que la región completa no se guarda (rejected). Lecturas concurrentes con un
+ * read lock; las escrituras y el cierre toman el write lock.
+ */
+public final class OffHeapCache<K, V> implements MemoStore<K, V> {
+
+    static final int HEADER_BYTES = 16;
+    private static final int ALIGNMENT = 8;
+    private static final int WRAP = -1;
+    private static final int MAX_ENTRIES = 1 << 26;
+    // El desplazamiento se guarda en 32 bits en unidades de ALIGNMENT (0 reservado)
+    private static final long MAX_BYTES = (0xFFFF_FFFFL - 1) * ALIGNMENT;
+
+    private final BinaryCodec<K> keyCodec;
+    private final BinaryCodec<V> valueCodec;
+    private final int maxEntries;
+    private final long capacity;
+    private final int slotMask;
+
+    private final Arena arena;
+    private final MemorySegment index;
+    private final MemorySegment data;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Estado de la región circular, protegido por el write lock
+    private long head;
+    private long tail;
+    private long used;
+    private int count;
+    private boolean closed;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public OffHeapCache(BinaryCodec<K> keyCodec, BinaryCodec<V> valueCodec, int maxEntries, long maxBytes) {
+        if (maxEntries <= 0 || maxEntries > MAX_ENTRIES) {
+            throw new IllegalArgumentException("maxEntries debe estar entre 1 y " + MAX_ENTRIES + ": " + maxEntries);
+        }
+        if (maxBytes < HEADER_BYTES || maxBytes > MAX_BYTES) {
+            throw new IllegalArgumentException("maxBytes debe estar entre " + HEADER_BYTES + " y " + MAX_BYTES
+                    + ": " + maxBytes);
+        }
+        this.keyCodec = Objects.requireNonNull(keyCodec, "keyCodec");
+        this.valueCodec = Objects.requireNonNull(valueCodec, "valueCodec");
+        this.maxEntries = maxEntries;
+        this.capacity = maxBytes & -ALIGNMENT;
+        int slots = Integer.highestOneBit(2 * maxEntries - 1) << 1;
+        this.slotMask = slots - 1;
+
+        this.arena = Arena.ofShared();
+        this.index = arena.allocate(ValueLayout.JAVA_LONG, slots);
+        this.data = arena.allocate(capacity, ALIGNMENT);
+    }
+
+    @Override
+    public V get(K key) {
+        MemorySegment encodedKey = encodeKey(key);
+        int hash = hash(key);
+        lock.readLock().lock();
+        try {
+            if (closed) {
+                return null;
+            }
+            int slot = find(hash, encodedKey);
+            if (slot < 0) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            long offset = offsetOf(index.getAtIndex(ValueLayout.JAVA_LONG, slot));
+            int keyLength = data.get(ValueLayout.JAVA_INT, offset);
+            int valueLength = data.get(ValueLayout.JAVA_INT, offset + 4);
+            return valueCodec.read(data, offset + HEADER_BYTES + keyLength, valueLength);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void put(K key, V value) {
+        Objects.requireNonNull(value, "value");
+        MemorySegment encodedKey = encodeKey(key);
+        int keyLength = (int) encodedKey.byteSize();
+        MemorySegment encodedValue = valueCodec.encode(value);
+        int valueLength = (int) encodedValue.byteSize();
+        long size = align(HEADER_BYTES + (long) keyLength + valueLength);
+        if (size > capacity) {
+            rejected.increment();
+            return;
+        }
+        int hash = hash(key);
+
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            // La versión anterior queda muerta en la región hasta que head la alcance
+            int existing = find(hash, encodedKey);
+            if (existing >= 0) {
+                deleteSlot(existing);
+                count--;
+            }
+            while (count >= maxEntries || !fits(size)) {
+                evictOldest();
+            }
+            if (capacity - tail < size) {
+                data.set(ValueLayout.JAVA_INT, tail, WRAP);
+                used += capacity - tail;
+                tail = 0;
+            }
+
+            long offset = tail;
+            data.set(ValueLayout.JAVA_INT, offset, keyLength);
+            data.set(ValueLayout.JAVA_INT, offset + 4, valueLength);
+            data.set(ValueLayout.JAVA_INT, offset + 8, hash);
+            MemorySegment.copy(encodedKey, 0, data, offset + HEADER_BYTES, keyLength);
+            MemorySegment.copy(encodedValue, 0, data, offset + HEADER_BYTES + keyLength, valueLength);
+            insertSlot(hash, offset);
+
+            count++;
+            used += size;
+            tail = offset + size == capacity ? 0 : offset + size;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Stats stats() {
+        lock.readLock().lock();
+        try {
+            return new Stats(count, maxEntries, used, capacity, hits.sum(), misses.sum(),
+                    evictions.sum(), rejected.sum());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Libera el Arena; las llamadas posteriores no encuentran nada ni guardan nada.
+     */
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            if (!closed) {
+                closed = true;
+                arena.close();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Hay hueco contiguo para size bytes en tail, o al principio de la región si hay que
+     * saltar el final (esos bytes cuentan como usados hasta que head los pase).
+     */
+    private boolean fits(long size) {
+        long waste = capacity - tail < size ? capacity - tail : 0;
+        return used + waste + size <= capacity;
+    }
+
+    private void evictOldest() {
+        int keyLength = data.get(ValueLayout.JAVA_INT, head);
+        if (keyLength == WRAP) {
+            used -= capacity - head;
+            head = 0;
+        } else {
+            int valueLength = data.get(ValueLayout.JAVA_INT, head + 4);
+            int hash = data.get(ValueLayout.JAVA_INT, head + 8);
+            long size = align(HEADER_BYTES + (long) keyLength + valueLength);
+            if (removeOffset(hash, head)) {
+                count--;
+                evictions.increment();
+            }
+            used -= size;
+            head = head + size == capacity ? 0 : head + size;
+        }
+        if (used == 0) {
+            head = 0;
+            tail = 0;
+        }
+    }
+
+    private int find(int hash, MemorySegment encodedKey) {
+        for (int slot = hash & slotMask; ; slot = (slot + 1) & slotMask) {
+            long entry = index.getAtIndex(ValueLayout.JAVA_LONG, slot);
+            if (entry == 0) {
+                return -1;
+            }
+            if ((int) (entry >>> 32) == hash && keyEquals(offsetOf(entry), encodedKey)) {
+                return slot;
+            }
+        }
+    }
+
+    private boolean keyEquals(long offset, MemorySegment encodedKey) {
+        long keyLength = encodedKey.byteSize();
+        long keyStart = offset + HEADER_BYTES;
+        return data.get(ValueLayout.JAVA_INT, offset) == keyLength
+                && MemorySegment.mismatch(data, keyStart, keyStart + keyLength, encodedKey, 0, keyLength) == -1;
+    }
+
+    private void insertSlot(int hash, long offset) {
+        int slot = hash & slotMask;
+        while (index.getAtIndex(ValueLayout.JAVA_LONG, slot) != 0) {
+            slot = (slot + 1) & slotMask;
+        }
+        index.setAtIndex(ValueLayout.JAVA_LONG, slot, ((long) hash << 32) | (offset / ALIGNMENT + 1));
+    }
+
+    /**
+     * Quita del índice la entrada que apunta a offset; false si ya no estaba
+     * (reemplazada por una versión más nueva).
+     */
+    private boolean removeOffset(int hash, long offset) {
+        for (int slot = hash & slotMask; ; slot = (slot + 1) & slotMask) {
+            long entry = index.getAtIndex(ValueLayout.JAVA_LONG, slot);
+            if (entry == 0) {
+                return false;
+            }
+            if (offsetOf(entry) == offset) {
+                deleteSlot(slot);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Borrado con desplazamiento hacia atrás: cada entrada posterior del mismo tramo
+     * ocupa el hueco si con ello no queda antes de su posición ideal.
+     */
+    private void deleteSlot(int slot) {
+        int hole = slot;
+        for (int next = (slot + 1) & slotMask; ; next = (next + 1) & slotMask) {
+            long entry = index.getAtIndex(ValueLayout.JAVA_LONG, next);
+            if (entry == 0) {
+                break;
+            }
+            int home = (int) (entry >>> 32) & slotMask;
+            if (((next - home) & slotMask) >= ((next - hole) & slotMask)) {
+                index.setAtIndex(ValueLayout.JAVA_LONG, hole, entry);
+                hole = next;
+            }
+        }
+        index.setAtIndex(ValueLayout.JAVA_LONG, hole, 0L);
+    }
+
+    private MemorySegment encodeKey(K key) {
+        Objects.requireNonNull(key, "key");
+        return keyCodec.encode(key);
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        h *= 0x45d9f3b;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static long offsetOf(long entry) {
+        return ((entry & 0xFFFF_FFFFL) - 1) * ALIGNMENT;
+    }
+
+    private static long align(long size) {
+        return (size + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+
+    /**
+     * Entradas vivas y bytes usados de la región (incluidas versiones muertas y saltos
+     * al principio) frente a sus límites, más contadores acumulados.
+     */
+    public record Stats(int entries, int maxEntries, long usedBytes, long maxBytes,
+                        long hits, long misses, long evictions, long rejected) {
+    }
+}
@@ -0,0 +1,253 @@
+package com.monghit.java25.features;
+
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Procesamiento por lotes de las operaciones de PrimitivePatternMatchingDemo.
+ *
+ * Lee los valores uno a uno con JsonScalarReader, aplica la operación y escribe el
+ * resultado inmediatamente en la salida (array JSON o NDJSON, según la entrada). Ni la
+ * entrada ni la salida se materializan completas: la memoria es constante aunque el
+ * lote tenga cientos de miles de valores.
+ *
+ * Los elementos inválidos (status distinto de OK en el lector) no interrumpen el lote:
+ * se escribe null en su posición.
+ *
+ * Un error de estructura (array, string u objeto sin cerrar) detiene la lectura cuando
+ * el 200 y parte de los resultados ya pueden haberse enviado. En lugar de cortar la
+ * respuesta, se escribe un registro final {"error": "..."} y se cierra la salida, que
+ * sigue siendo JSON/NDJSON válido. Los resultados nunca son objetos, así que un objeto
+ * con "error" como último registro distingue un lote truncado de uno completo.
+ */
+@Service
+public class PrimitiveBatchProcessor {
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+
+    private static final int WRITE_BUFFER_SIZE = 8 * 1024;
+
+    /**
+     * Elementos por bloque en validateBulk: el tamaño de los buffers primitivos.
+     */
+    static final int BULK_CHUNK_SIZE = 4_096;
+
+    /**
+     * Valor del bloque para elementos que no son enteros exactos: queda fuera del rango
+     * de int, así que el clasificador le asigna NOT_AN_INT.
+     */
+    private static final long NOT_AN_INTEGER = Long.MIN_VALUE;
+
+    private final PrimitivePatternMatchingDemo primitivePatternDemo;
+
+    public PrimitiveBatchProcessor(PrimitivePatternMatchingDemo primitivePatternDemo) {
+        this.primitivePatternDemo = primitivePatternDemo;
+    }
+
+    /**
+     * Aplica la operación a cada valor de la entrada y devuelve el número de valores
+     * procesados (los anteriores a un error de estructura, si lo hay). Con ndjson=true
+     * la salida es un resultado por línea; si no, un array.
+     */
+    public long process(Operation operation, InputStream in, OutputStream out, boolean ndjson) throws IOException {
+        JsonScalarReader reader = new JsonScalarReader(in);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+
+        long count = 0;
+        if (!ndjson) {
+            writer.write('[');
+        }
+        try {
+            while (reader.hasNext()) {
+                Object value = reader.next();
+                if (!ndjson && count > 0) {
+                    writer.write(',');
+                }
+                if (reader.status() == ScalarParser.Status.OK) {
+                    writeResult(writer, operation, value);
+                } else {
+                    writer.write("null");
+                }
+                if (ndjson) {
+                    writer.write('\n');
+                }
+                count++;
+            }
+        } catch (JsonScalarReader.MalformedJsonException e) {
+            // El 200 y parte de la salida ya pueden estar enviados: el error va como último registro
+            if (!ndjson && count > 0) {
+                writer.write(',');
+            }
+            writer.write("{\"error\":");
+            writeString(writer, e.getMessage());
+            writer.write('}');
+            if (ndjson) {
+                writer.write('\n');
+            }
+        }
+        if (!ndjson) {
+            writer.write(']');
+        }
+        writer.flush();
+        return count;
+    }
+
+    /**
+     * Valida una columna de enteros con BulkValidator sin materializarla: los valores se
+     * leen con JsonScalarReader a un long[] de BULK_CHUNK_SIZE elementos que se clasifica
+     * (Vector API si está disponible) y se vuelca a la salida bloque a bloque, reutilizando
+     * los mismos buffers. Escribe
+     * {"implementation": ..., "codes": [...], "total": n, "histogram": {...}} con un
+     * código de PrimitiveClassifier por elemento. Los elementos que no son un entero
+     * exacto (fracciones, strings, null, inválidos) son NOT_AN_INT. Un error de
+     * estructura añade un campo "error" y cierra el objeto, como en process.
+     */
+    public long validateBulk(InputStream in, OutputStream out) throws IOException {
+        JsonScalarReader reader = new JsonScalarReader(in);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        long[] chunk = new long[BULK_CHUNK_SIZE];
+        byte[] codes = new byte[BULK_CHUNK_SIZE];
+        long[] counts = new long[PrimitiveClassifier.CODES];
+
+        writer.write("{\"implementation\":");
+        writeString(writer, BulkValidator.implementation());
+        writer.write(",\"codes\":[");
+        long total = 0;
+        int filled = 0;
+        String error = null;
+        try {
+            while (reader.hasNext()) {
+                chunk[filled++] = columnValue(reader.next());
+                if (filled == BULK_CHUNK_SIZE) {
+                    BulkValidator.validate(chunk, codes, counts);
+                    writeCodes(writer, codes, filled, total);
+                    total += filled;
+                    filled = 0;
+                }
+            }
+        } catch (JsonScalarReader.MalformedJsonException e) {
+            error = e.getMessage();
+        }
+        // Bloque final incompleto: bucle escalar sobre los elementos rellenos
+        for (int i = 0; i < filled; i++) {
+            codes[i] = PrimitiveClassifier.classify(chunk[i]);
+            counts[codes[i]]++;
+        }
+        writeCodes(writer, codes, filled, total);
+        total += filled;
+        writer.write(']');
+        if (error != null) {
+            writer.write(",\"error\":");
+            writeString(writer, error);
+        }
+        writer.write(",\"total\":");
+        writer.write(Long.toString(total));
+        writer.write(",\"histogram\":{");
+        for (byte code = 0; code < PrimitiveClassifier.CODES; code++) {
+            if (code > 0) {
+                writer.write(',');
+            }
+            writeString(writer, PrimitiveClassifier.describe(code));
+            writer.write(':');
+            writer.write(Long.toString(counts[code]));
+        }
+        writer.write("}}");
+        writer.flush();
+        return total;
+    }
+
+    private static long columnValue(Object value) {
+        if (value instanceof Integer i) {
+            return i;
+        }
+        if (value instanceof Long l) {
+            return l;
+        }
+        if (value instanceof Double d && d.doubleValue() instanceof long exact) {
+            return exact;
+        }
+        return NOT_AN_INTEGER;
+    }
+
+    private static void writeCodes(Writer writer, byte[] codes, int length, long written) throws IOException {
+        for (int i = 0; i < length; i++) {
+            if (written + i > 0) {
+                writer.write(',');
+            }
+            writer.write('0' + codes[i]);
+        }
+    }
+
+    private void writeResult(Writer writer, Operation operation, Object value) throws IOException {
+        switch (operation) {
+            case PROCESS -> writeString(writer, primitivePatternDemo.processPrimitive(value));
+            case CHECK_TYPE -> writeString(writer, primitivePatternDemo.checkPrimitiveType(value));
+            case CONVERT -> writeConversion(writer, primitivePatternDemo.strictConvertToInt(value));
+            case VALIDATE -> writeString(writer, primitivePatternDemo.validateNumber(value));
+        }
+    }
+
+    /**
+     * Igual que /convert: una conversión FAILED se escribe como null, no como 0.
+     */
+    private static void writeConversion(Writer writer, StrictIntConverter.Conversion conversion) throws IOException {
+        if (conversion.outcome() == StrictIntConverter.Outcome.FAILED) {
+            writer.write("null");
+        } else {
+            writer.write(Integer.toString(conversion.value()));
+        }
+    }
+
+    private static void writeString(Writer writer, String text) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> writer.write("\\\"");
+                case '\\' -> writer.write("\\\\");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\t' -> writer.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+        writer.write('"');
+    }
+
+    /**
+     * Operaciones disponibles en /primitive-patterns/{operation}/batch.
+     */
+    public enum Operation {
+        PROCESS("process"),
+        CHECK_TYPE("check-type"),
+        CONVERT("convert"),
+        VALIDATE("validate");
+
+        private final String path;
+
+        Operation(String path) {
+            this.path = path;
+        }
+
+        public static Operation fromPath(String path) {
+            return Arrays.stream(values())
+                    .filter(operation -> operation.path.equals(path))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Operación desconocida: " + path));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.monghit.java25.features;
+
+/**
+ * Motor de clasificación especializado en primitivos (JEP 455 - Preview).
+ *
+ * Aplica las mismas categorías que PrimitivePatternMatchingDemo.validateNumber, pero
+ * sobre columnas int[], long[] y double[] y con patrones primitivos reales: en un
+ * switch sobre long o double, "case int i" solo encaja si el valor es representable
+ * exactamente como int, sin boxing ni conversión con pérdida.
+ *
+ * El resultado de cada elemento es un código byte en lugar de un String, y los
+ * métodos sobre arrays escriben en buffers del llamador: no hay asignaciones por
+ * elemento, así que validar arrays grandes no genera presión sobre el GC.
+ */
+public final class PrimitiveClassifier {
+
+    public static final byte NEGATIVE = 0;
+    public static final byte ZERO = 1;
+    public static final byte SMALL_POSITIVE = 2;
+    public static final byte LARGE_POSITIVE = 3;
+    public static final byte NOT_AN_INT = 4;
+
+    /**
+     * Número de códigos distintos: tamaño del array de conteos.
+     */
+    public static final int CODES = 5;
+
+    /**
+     * Límite superior (inclusive) de los positivos pequeños.
+     */
+    public static final int SMALL_LIMIT = 100;
+
+    private static final String[] DESCRIPTIONS = {
+            "Número negativo",
+            "Cero",
+            "Número positivo pequeño",
+            "Número positivo grande",
+            "No es un entero"
+    };
+
+    private PrimitiveClassifier() {
+    }
+
+    public static byte classify(int value) {
+        return switch (value) {
+            case int i when i < 0 -> NEGATIVE;
+            case int i when i == 0 -> ZERO;
+            case int i when i <= SMALL_LIMIT -> SMALL_POSITIVE;
+            case int i -> LARGE_POSITIVE;
+        };
+    }
+
+    /**
+     * Un long fuera del rango de int no encaja en "case int i" y es NOT_AN_INT.
+     */
+    public static byte classify(long value) {
+        return switch (value) {
+            case int i -> classify(i);
+            case long l -> NOT_AN_INT;
+        };
+    }
+
+    /**
+     * Solo los double con valor entero exacto dentro del rango de int encajan en
+     * "case int i"; fracciones, NaN, infinitos y -0.0 son NOT_AN_INT.
+     */
+    public static byte classify(double value) {
+        return switch (value) {
+            case int i -> classify(i);
+            case double d -> NOT_AN_INT;
+        };
+    }
+
+    /**
+     * Clasifica values en codes (mismo tamaño o mayor) y acumula conteos por código
+     * en counts (tamaño CODES).
+     */
+    public static void classify(int[] values, byte[] codes, long[] counts) {
+        checkBuffers(values.length, codes, counts);
+        for (int i = 0; i < values.length; i++) {
+            byte code = classify(values[i]);
+            codes[i] = code;
+            counts[code]++;
+        }
+    }
+
+    public static void classify(long[] values, byte[] codes, long[] counts) {
+        checkBuffers(values.length, codes, counts);
+        for (int i = 0; i < values.length; i++) {
+            byte code = classify(values[i]);
+            codes[i] = code;
+            counts[code]++;
+        }
+    }
+
+    public static void classify(double[] values, byte[] codes, long[] counts) {
+        checkBuffers(values.length, codes, counts);
+        for (int i = 0; i < values.length; i++) {
+            byte code = classify(values[i]);
+            codes[i] = code;
+            counts[code]++;
+        }
+    }
+
+    /**
+     * Texto equivalente al de validateNumber para un código.
+     */
+    public static String describe(byte code) {
+        return DESCRIPTIONS[code];
+    }
+
+    static void checkBuffers(int length, byte[] codes, long[] counts) {
+        if (codes.length < length) {
+            throw new IllegalArgumentException(
+                    "codes debe tener al menos " + length + " elementos: " + codes.length);
+        }
+        if (counts.length != CODES) {
+            throw new IllegalArgumentException("counts debe tener " + CODES + " elementos: " + counts.length);
+        }
+    }
+}
@@ -61,6 +61,14 @@ public class PrimitivePatternMatchingDemo {
         };
     }
 
+    /**
+     * Conversión estricta: en lugar de truncar en silencio informa de si la conversión
+     * fue exacta (LOSSLESS), con pérdida (LOSSY) o imposible (FAILED), sin excepciones.
+     */
+    public StrictIntConverter.Conversion strictConvertToInt(Object value) {
+        return StrictIntConverter.Conversion.of(StrictIntConverter.convert(value));
+    }
+
     /**
      * Ejemplo de validación con guards
      */
@@ -0,0 +1,18 @@
+package com.monghit.java25.features;
+
+/**
+ * Contexto inmutable de la petición HTTP en curso.
+ *
+ * RequestContextFilter lo enlaza una vez por petición en CURRENT con
+ * ScopedValue.where(...).call(...), así que cualquier servicio llamado desde el
+ * controlador, y cualquier subtarea forkeada con StructuredTaskScope, lo lee sin
+ * ThreadLocal: no hay copia por virtual thread ni remove() que olvidar.
+ *
+ * userId y tenantId son null si la petición no trae las cabeceras correspondientes.
+ * Vive en features junto a los demás ScopedValue para que los servicios no dependan
+ * de la capa web; es la capa web la que depende de features.
+ */
+public record RequestContext(String requestId, String userId, String tenantId) {
+
+    public static final ScopedValue<RequestContext> CURRENT = ScopedValue.newInstance();
+}
@@ -0,0 +1,248 @@
+package com.monghit.java25.features;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parser de valores escalares JSON directamente sobre los bytes de la petición.
+ *
+ * Es la capa de parsing compartida por todos los endpoints /primitive-patterns/*:
+ * nunca lanza excepciones con entradas inválidas, sino que devuelve el valor junto a
+ * un Status. Así una ráfaga de peticiones malformadas no paga la construcción de un
+ * stack trace por petición (NumberFormatException, HttpMessageNotReadableException).
+ *
+ * Los valores usan los mismos tipos que el binding a Object de Jackson: Integer, Long
+ * o Double para números, String, Boolean y null.
+ */
+public final class ScalarParser {
+
+    /**
+     * OK: valor válido. EMPTY: cuerpo vacío. MALFORMED: no es JSON válido.
+     * UNSUPPORTED: JSON válido pero no escalar (objeto o array).
+     */
+    public enum Status { OK, EMPTY, MALFORMED, UNSUPPORTED }
+
+    private ScalarParser() {
+    }
+
+    /**
+     * Parsea el cuerpo completo de una petición; un cuerpo ausente (null) es EMPTY.
+     */
+    public static Parsed parse(byte[] body) {
+        return body == null ? Parsed.EMPTY : parse(body, 0, body.length);
+    }
+
+    /**
+     * Parsea un único valor escalar en bytes[from, to), ignorando espacios alrededor.
+     */
+    public static Parsed parse(byte[] bytes, int from, int to) {
+        while (from < to && isWhitespace(bytes[from])) {
+            from++;
+        }
+        while (to > from && isWhitespace(bytes[to - 1])) {
+            to--;
+        }
+        if (from == to) {
+            return Parsed.EMPTY;
+        }
+
+        return switch (bytes[from]) {
+            case '"' -> {
+                String text = to - from >= 2 && bytes[to - 1] == '"'
+                        ? parseString(bytes, from + 1, to - 1)
+                        : null;
+                yield text != null ? Parsed.ok(text) : Parsed.MALFORMED;
+            }
+            case '{', '[' -> Parsed.UNSUPPORTED;
+            case 't' -> matches(bytes, from, to, "true") ? Parsed.TRUE : Parsed.MALFORMED;
+            case 'f' -> matches(bytes, from, to, "false") ? Parsed.FALSE : Parsed.MALFORMED;
+            case 'n' -> matches(bytes, from, to, "null") ? Parsed.NULL : Parsed.MALFORMED;
+            default -> {
+                Object number = parseNumber(bytes, from, to);
+                yield number != null ? Parsed.ok(number) : Parsed.MALFORMED;
+            }
+        };
+    }
+
+    /**
+     * Número JSON en bytes[from, to): Integer si cabe en int, Long si cabe en long y
+     * Double en otro caso. Devuelve null si la sintaxis no es válida.
+     */
+    static Object parseNumber(byte[] bytes, int from, int to) {
+        boolean integral = true;
+        int i = from;
+        if (i < to && bytes[i] == '-') {
+            i++;
+        }
+        int digits = i;
+        while (i < to && isDigit(bytes[i])) {
+            i++;
+        }
+        if (i == digits) {
+            return null;
+        }
+        if (i < to && bytes[i] == '.') {
+            integral = false;
+            int fraction = ++i;
+            while (i < to && isDigit(bytes[i])) {
+                i++;
+            }
+            if (i == fraction) {
+                return null;
+            }
+        }
+        if (i < to && (bytes[i] == 'e' || bytes[i] == 'E')) {
+            integral = false;
+            i++;
+            if (i < to && (bytes[i] == '+' || bytes[i] == '-')) {
+                i++;
+            }
+            int exponent = i;
+            while (i < to && isDigit(bytes[i])) {
+                i++;
+            }
+            if (i == exponent) {
+                return null;
+            }
+        }
+        if (i != to) {
+            return null;
+        }
+
+        if (integral) {
+            Object value = parseIntegral(bytes, from, to);
+            if (value != null) {
+                return value;
+            }
+        }
+        // La sintaxis ya está validada, así que parseDouble no puede fallar
+        return Double.parseDouble(new String(bytes, from, to - from, StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Acumula en negativo para cubrir Long.MIN_VALUE; devuelve null si desborda long.
+     */
+    private static Object parseIntegral(byte[] bytes, int from, int to) {
+        boolean negative = bytes[from] == '-';
+        long accumulated = 0;
+        for (int i = negative ? from + 1 : from; i < to; i++) {
+            int digit = bytes[i] - '0';
+            if (accumulated < (Long.MIN_VALUE + digit) / 10) {
+                return null;
+            }
+            accumulated = accumulated * 10 - digit;
+        }
+        if (!negative) {
+            if (accumulated == Long.MIN_VALUE) {
+                return null;
+            }
+            accumulated = -accumulated;
+        }
+        if (accumulated >= Integer.MIN_VALUE && accumulated <= Integer.MAX_VALUE) {
+            return (int) accumulated;
+        }
+        return accumulated;
+    }
+
+    /**
+     * Contenido de un string JSON (sin las comillas) en bytes[from, to), en UTF-8.
+     * Devuelve null si contiene comillas sin escapar, caracteres de control o escapes
+     * inválidos.
+     */
+    static String parseString(byte[] bytes, int from, int to) {
+        boolean escaped = false;
+        boolean hasEscapes = false;
+        for (int i = from; i < to; i++) {
+            int b = bytes[i] & 0xFF;
+            if (b < 0x20 || (!escaped && b == '"')) {
+                return null;
+            }
+            escaped = !escaped && b == '\\';
+            hasEscapes |= escaped;
+        }
+        if (escaped) {
+            return null;
+        }
+        String raw = new String(bytes, from, to - from, StandardCharsets.UTF_8);
+        return hasEscapes ? unescape(raw) : raw;
+    }
+
+    private static String unescape(String raw) {
+        StringBuilder text = new StringBuilder(raw.length());
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (c != '\\') {
+                text.append(c);
+                continue;
+            }
+            char escape = raw.charAt(++i);
+            switch (escape) {
+                case '"', '\\', '/' -> text.append(escape);
+                case 'b' -> text.append('\b');
+                case 'f' -> text.append('\f');
+                case 'n' -> text.append('\n');
+                case 'r' -> text.append('\r');
+                case 't' -> text.append('\t');
+                case 'u' -> {
+                    if (i + 4 >= raw.length()) {
+                        return null;
+                    }
+                    int code = 0;
+                    for (int k = 1; k <= 4; k++) {
+                        int hex = Character.digit(raw.charAt(i + k), 16);
+                        if (hex < 0) {
+                            return null;
+                        }
+                        code = code * 16 + hex;
+                    }
+                    text.append((char) code);
+                    i += 4;
+                }
+                default -> {
+                    return null;
+                }
+            }
+        }
+        return text.toString();
+    }
+
+    private static boolean matches(byte[] bytes, int from, int to, String literal) {
+        if (to - from != literal.length()) {
+            return false;
+        }
+        for (int i = 0; i < literal.length(); i++) {
+            if (bytes[from + i] != literal.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean isWhitespace(int b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+    }
+
+    private static boolean isDigit(int b) {
+        return b >= '0' && b <= '9';
+    }
+
+    /**
+     * Resultado del parsing: el valor solo es significativo con Status.OK.
+     */
+    public record Parsed(Status status, Object value) {
+
+        static final Parsed EMPTY = new Parsed(Status.EMPTY, null);
+        static final Parsed MALFORMED = new Parsed(Status.MALFORMED, null);
+        static final Parsed UNSUPPORTED = new Parsed(Status.UNSUPPORTED, null);
+        static final Parsed TRUE = new Parsed(Status.OK, Boolean.TRUE);
+        static final Parsed FALSE = new Parsed(Status.OK, Boolean.FALSE);
+        static final Parsed NULL = new Parsed(Status.OK, null);
+
+        static Parsed ok(Object value) {
+            return new Parsed(Status.OK, value);
+        }
+
+        public boolean isOk() {
+            return status == Status.OK;
+        }
+    }
+}
@@ -1,8 +1,14 @@
 package com.monghit.java25.features;
 
+import com.monghit.java25.jfr.ScopedContextEnteredEvent;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
 import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.StructuredTaskScope.Subtask;
 
 /**
  * Demo de Scoped Values (JEP 481 - Final)
@@ -22,19 +28,42 @@ public class ScopedValuesDemo {
     // Definir Scoped Values
     private static final ScopedValue<String> USER_ID = ScopedValue.newInstance();
     private static final ScopedValue<String> REQUEST_ID = ScopedValue.newInstance();
-    private static final ScopedValue<String> TENANT_ID = ScopedValue.newInstance();
+    // Público: RequestContextFilter lo enlaza por petición y TenantBulkhead lo lee
+    public static final ScopedValue<String> TENANT_ID = ScopedValue.newInstance();
+
+    /**
+     * Máximo de subtareas por llamada en processWithConcurrency y verifyInheritance.
+     */
+    public static final int MAX_CHILDREN = 10_000;
+
+    // Fragmentos fijos del mensaje de performOperation, sin parsear un formato por llamada
+    private static final String OPERATION_PREFIX = "Procesando operación - User: ";
+    private static final String REQUEST_LABEL = ", Request: ";
+    private static final String TENANT_LABEL = ", Tenant: ";
 
     /**
      * Ejemplo de uso básico de Scoped Values
      */
     public String processWithContext(String userId, String requestId, String tenantId) {
+        ScopedContextEnteredEvent event = new ScopedContextEnteredEvent();
+        event.begin();
+
         // Ejecutar código con valores en el scope
-        return ScopedValue.where(USER_ID, userId)
+        String result = ScopedValue.where(USER_ID, userId)
                 .where(REQUEST_ID, requestId)
                 .where(TENANT_ID, tenantId)
                 .call(() -> {
                     return performOperation();
                 });
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = "processWithContext";
+            event.userId = userId;
+            event.tenantId = tenantId;
+            event.commit();
+        }
+        return result;
     }
 
     /**
@@ -62,40 +91,164 @@ public class ScopedValuesDemo {
      */
     private void nestedOperation() {
         if (USER_ID.isBound()) {
-            String userId = USER_ID.get();
-            System.out.println("Operación anidada - User ID: " + userId);
+            // Evento instantáneo: sin begin/end, solo marca que el contexto es visible aquí
+            ScopedContextEnteredEvent event = new ScopedContextEnteredEvent();
+            if (event.shouldCommit()) {
+                event.operation = "nestedOperation";
+                event.userId = USER_ID.get();
+                event.tenantId = TENANT_ID.isBound() ? TENANT_ID.get() : null;
+                event.commit();
+            }
         }
     }
 
     /**
-     * Ejemplo con Concurrencia usando Virtual Threads
-     * Los Scoped Values se propagan automáticamente a los threads hijos
+     * Variante de processWithContext con un único ScopedValue de tipo record.
      *
-     * NOTA: La API de Structured Concurrency cambió en Java 25.
-     * Este ejemplo usa Virtual Threads simples para demostrar la propagación de Scoped Values.
+     * Se enlaza un solo RequestContext en lugar de tres valores, y la operación hace una
+     * única búsqueda con get() (que queda en la caché de scoped values del thread) y
+     * reutiliza ese record en los métodos anidados. El mensaje, idéntico al de
+     * processWithContext, se concatena con fragmentos precalculados en lugar de
+     * String.format.
+     */
+    public String processWithContextCarrier(String userId, String requestId, String tenantId) {
+        ScopedContextEnteredEvent event = new ScopedContextEnteredEvent();
+        event.begin();
+
+        String result = ScopedValue.where(RequestContext.CURRENT, new RequestContext(requestId, userId, tenantId))
+                .call(this::performCarrierOperation);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = "processWithContextCarrier";
+            event.userId = userId;
+            event.tenantId = tenantId;
+            event.commit();
+        }
+        return result;
+    }
+
+    private String performCarrierOperation() {
+        RequestContext context = RequestContext.CURRENT.get();
+
+        String result = OPERATION_PREFIX + context.userId()
+                + REQUEST_LABEL + context.requestId()
+                + TENANT_LABEL + context.tenantId();
+
+        nestedCarrierOperation(context);
+
+        return result;
+    }
+
+    /**
+     * Equivalente a nestedOperation, recibiendo el contexto ya leído.
+     */
+    private void nestedCarrierOperation(RequestContext context) {
+        ScopedContextEnteredEvent event = new ScopedContextEnteredEvent();
+        if (event.shouldCommit()) {
+            event.operation = "nestedCarrierOperation";
+            event.userId = context.userId();
+            event.tenantId = context.tenantId();
+            event.commit();
+        }
+    }
+
+    /**
+     * Ejemplo con concurrencia: dos subtareas forkeadas que leen USER_ID.
      */
     public String processWithConcurrency(String userId) throws Exception {
-        return ScopedValue.where(USER_ID, userId).call(() -> {
-            // Usar virtual threads simples
-            StringBuilder result1 = new StringBuilder();
-            StringBuilder result2 = new StringBuilder();
+        return processWithConcurrency(userId, 2);
+    }
 
-            Thread t1 = Thread.ofVirtual().start(() -> {
-                // Este thread hijo tiene acceso al USER_ID
-                result1.append("Task 1 ejecutada por: ").append(USER_ID.get());
-            });
+    /**
+     * Ejemplo con concurrencia sobre StructuredTaskScope.
+     *
+     * Solo las subtareas forkeadas con StructuredTaskScope heredan los bindings del
+     * thread que abre el scope; un Thread.ofVirtual().start() normal no los ve. Cada
+     * subtarea devuelve su resultado como valor del Subtask, sin buffers compartidos, y
+     * el resultado conserva el orden de fork.
+     */
+    public String processWithConcurrency(String userId, int children) throws Exception {
+        checkChildren(children);
+        return ScopedValue.where(USER_ID, userId).call(() -> {
+            try (var scope = StructuredTaskScope.open()) {
+                List<Subtask<String>> tasks = new ArrayList<>(children);
+                for (int i = 1; i <= children; i++) {
+                    String task = "Task " + i;
+                    tasks.add(scope.fork(() -> task + " ejecutada por: " + USER_ID.get()));
+                }
+                scope.join();
 
-            Thread t2 = Thread.ofVirtual().start(() -> {
-                result2.append("Task 2 ejecutada por: ").append(USER_ID.get());
-            });
+                StringJoiner result = new StringJoiner(" | ");
+                for (Subtask<String> task : tasks) {
+                    result.add(task.get());
+                }
+                return result.toString();
+            }
+        });
+    }
 
-            t1.join();
-            t2.join();
+    /**
+     * Valida la herencia de USER_ID a escala: fuerza hasta MAX_CHILDREN subtareas y
+     * cuenta cuántas ven el valor enlazado, uno distinto o ninguno.
+     */
+    public InheritanceReport verifyInheritance(String userId, int children) throws Exception {
+        checkChildren(children);
+        long start = System.nanoTime();
+        return ScopedValue.where(USER_ID, userId).call(() -> {
+            try (var scope = StructuredTaskScope.open()) {
+                List<Subtask<String>> tasks = new ArrayList<>(children);
+                for (int i = 0; i < children; i++) {
+                    tasks.add(scope.fork(() -> USER_ID.isBound() ? USER_ID.get() : null));
+                }
+                scope.join();
 
-            return result1.toString() + " | " + result2.toString();
+                int inherited = 0;
+                int mismatched = 0;
+                int unbound = 0;
+                for (Subtask<String> task : tasks) {
+                    String seen = task.get();
+                    if (seen == null) {
+                        unbound++;
+                    } else if (seen.equals(userId)) {
+                        inherited++;
+                    } else {
+                        mismatched++;
+                    }
+                }
+                return new InheritanceReport(children, inherited, mismatched, unbound,
+                        Duration.ofNanos(System.nanoTime() - start).toMillis());
+            }
         });
     }
 
+    private static void checkChildren(int children) {
+        if (children < 1 || children > MAX_CHILDREN) {
+            throw new IllegalArgumentException("children debe estar entre 1 y " + MAX_CHILDREN + ": " + children);
+        }
+    }
+
+    /**
+     * Lee el RequestContext enlazado por RequestContextFilter, tanto en el thread de la
+     * petición como en una subtarea forkeada: el binding se hereda sin pasar parámetros.
+     */
+    public String describeRequestContext() throws Exception {
+        if (!RequestContext.CURRENT.isBound()) {
+            return "Sin contexto de petición";
+        }
+        RequestContext context = RequestContext.CURRENT.get();
+
+        try (var scope = StructuredTaskScope.open()) {
+            Subtask<RequestContext> subtask = scope.fork(() -> RequestContext.CURRENT.get());
+            scope.join();
+
+            return "Request: " + context.requestId()
+                    + ", User: " + context.userId()
+                    + ", Tenant: " + context.tenantId()
+                    + " | Subtarea: " + (subtask.get() == context ? "mismo contexto" : "contexto distinto");
+        }
+    }
+
     /**
      * Ejemplo de orElse - obtener valor con fallback
      */
@@ -126,4 +279,10 @@ public class ScopedValuesDemo {
             return "Outer tenant: " + outerTenant + " | " + innerResult;
         });
     }
+
+    /**
+     * Resultado de verifyInheritance: inherited + mismatched + unbound == children.
+     */
+    public record InheritanceReport(int children, int inherited, int mismatched, int unbound, long elapsedMillis) {
+    }
 }
@@ -0,0 +1,154 @@
+package com.monghit.java25.features;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coalescencia de llamadas idénticas concurrentes ("single flight").
+ *
+ * Mientras una carga para una clave está en vuelo, el resto de llamadas con la misma
+ * clave se suman a ella y reciben el mismo resultado (o la misma excepción) en lugar de
+ * repetir el trabajo. No es una caché: cuando la carga termina, la siguiente llamada
+ * vuelve a ejecutarla.
+ *
+ * La carga corre en su propio virtual thread, así que no depende de ningún llamante
+ * concreto: si el primero se interrumpe, los demás siguen esperando el resultado. Solo
+ * cuando todos los que esperan se han ido (interrumpidos, p. ej. porque su
+ * StructuredTaskScope se canceló) se interrumpe la carga y se descarta la entrada.
+ * Como corre en otro thread, la carga no ve los scoped values de los llamantes.
+ */
+public final class SingleFlight<K, V> {
+
+    private final String name;
+    private final Map<K, Flight<V>> flights = new ConcurrentHashMap<>();
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+    private final LongAdder cancelled = new LongAdder();
+
+    public SingleFlight(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Devuelve el resultado de loader para key, compartiendo la ejecución con cualquier
+     * llamada concurrente con la misma clave. Si loader falla, se relanza su excepción.
+     */
+    public V execute(K key, Callable<? extends V> loader) throws Exception {
+        Flight<V> flight = join(key, loader);
+        boolean completed = false;
+        try {
+            V value = flight.result.get();
+            completed = true;
+            return value;
+        } catch (ExecutionException e) {
+            completed = true;
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        } finally {
+            leave(key, flight, completed);
+        }
+    }
+
+    private Flight<V> join(K key, Callable<? extends V> loader) {
+        while (true) {
+            Flight<V> existing = flights.get(key);
+            if (existing != null) {
+                if (existing.enter()) {
+                    shared.increment();
+                    return existing;
+                }
+                // Abandonada por todos sus llamantes: se retira y se vuelve a intentar
+                flights.remove(key, existing);
+                continue;
+            }
+            Flight<V> created = new Flight<>();
+            created.enter();
+            if (flights.putIfAbsent(key, created) == null) {
+                executions.increment();
+                created.start(name + "-" + key, () -> run(key, created, loader));
+                return created;
+            }
+        }
+    }
+
+    private void run(K key, Flight<V> flight, Callable<? extends V> loader) {
+        try {
+            V value = loader.call();
+            flights.remove(key, flight);
+            flight.result.complete(value);
+        } catch (Throwable e) {
+            flights.remove(key, flight);
+            flight.result.completeExceptionally(e);
+        }
+    }
+
+    private void leave(K key, Flight<V> flight, boolean completed) {
+        if (flight.exit() && !completed && !flight.result.isDone()) {
+            // El último llamante se ha ido antes de tener resultado: nadie lo necesita
+            flights.remove(key, flight);
+            flight.result.completeExceptionally(new CancellationException("Sin llamantes: " + key));
+            flight.runner.interrupt();
+            cancelled.increment();
+        }
+    }
+
+    /**
+     * Cargas en vuelo ahora mismo.
+     */
+    public int inFlight() {
+        return flights.size();
+    }
+
+    public Stats stats() {
+        return new Stats(executions.sum(), shared.sum(), cancelled.sum(), flights.size());
+    }
+
+    /**
+     * executions: cargas ejecutadas. shared: llamadas que se sumaron a una carga en
+     * vuelo. cancelled: cargas interrumpidas porque todos sus llamantes se fueron.
+     */
+    public record Stats(long executions, long shared, long cancelled, int inFlight) {
+    }
+
+    private static final class Flight<V> {
+
+        final CompletableFuture<V> result = new CompletableFuture<>();
+        // Llamantes esperando; ABANDONED cuando el último se fue sin resultado
+        private final AtomicInteger waiters = new AtomicInteger();
+        volatile Thread runner;
+
+        private static final int ABANDONED = -1;
+
+        boolean enter() {
+            while (true) {
+                int current = waiters.get();
+                if (current == ABANDONED) {
+                    return false;
+                }
+                if (waiters.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * Devuelve true si era el último llamante y la carga queda abandonada.
+         */
+        boolean exit() {
+            return waiters.decrementAndGet() == 0 && waiters.compareAndSet(0, ABANDONED);
+        }
+
+        void start(String threadName, Runnable task) {
+            runner = Thread.ofVirtual().name(threadName).start(task);
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.monghit.java25.features;
+
+import java.lang.StableValue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Comparación ejecutable de StableValue frente a las alternativas tradicionales
+ * de inicialización perezosa (volatile y double-checked locking).
+ *
+ * Mide tres cosas:
+ * - Lectura en estado estable: ns por lectura con N threads leyendo a la vez
+ * - Primer acceso bajo contención: N threads piden el valor a la vez sobre una
+ *   instancia recién creada; se mide cuánto espera cada uno y cuántas veces se inicializa
+ * - Constant folding: StableValue en un campo static final frente a un campo de instancia
+ *
+ * Es una medición orientativa dentro de la aplicación; para números rigurosos
+ * usar el benchmark JMH equivalente (perfil jmh).
+ */
+public final class StableValueComparison {
+
+    /**
+     * Coste simulado de la inicialización perezosa (ms).
+     */
+    static final long INIT_COST_MILLIS = 1;
+
+    /**
+     * Límites de una ejecución: cada estrategia arranca threads platform threads tres
+     * veces (primer acceso, calentamiento y pasada medida).
+     */
+    public static final int MAX_THREADS = 64;
+    public static final int MAX_READS_PER_THREAD = 10_000_000;
+
+    private StableValueComparison() {
+    }
+
+    /**
+     * Ejecuta la comparación completa con el número de threads y lecturas indicado.
+     */
+    public static ComparisonReport run(int threads, int readsPerThread) throws InterruptedException {
+        if (threads <= 0 || threads > MAX_THREADS || readsPerThread <= 0 || readsPerThread > MAX_READS_PER_THREAD) {
+            throw new IllegalArgumentException("threads debe estar entre 1 y " + MAX_THREADS
+                    + " y reads entre 1 y " + MAX_READS_PER_THREAD);
+        }
+
+        List<StrategyResult> results = new ArrayList<>();
+        results.add(measure("volatile", VolatileHolder::new, threads, readsPerThread));
+        results.add(measure("double-checked-locking", DoubleCheckedHolder::new, threads, readsPerThread));
+        results.add(measure("stable-value-instance", StableValueHolder::new, threads, readsPerThread));
+        results.add(measure("stable-value-static-final", loader -> new StaticStableValueHolder(),
+                threads, readsPerThread));
+        return new ComparisonReport(threads, readsPerThread, results);
+    }
+
+    private static StrategyResult measure(String strategy,
+                                          Function<Supplier<String>, ConfigHolder> factory,
+                                          int threads, int readsPerThread) throws InterruptedException {
+        AtomicInteger initializations = new AtomicInteger();
+        Supplier<String> loader = () -> {
+            initializations.incrementAndGet();
+            sleep(INIT_COST_MILLIS);
+            return "config-loaded-" + System.nanoTime();
+        };
+
+        // Primer acceso: todos los threads arrancan a la vez sobre una instancia nueva.
+        // El holder static final solo se inicializa una vez por JVM, así que a partir
+        // de la segunda ejecución su primer acceso ya no incluye la inicialización.
+        long constructionStart = System.nanoTime();
+        ConfigHolder holder = factory.apply(loader);
+        long constructionNanos = System.nanoTime() - constructionStart;
+        long[] firstAccessNanos = runConcurrently(threads, ignored -> {
+            long start = System.nanoTime();
+            holder.getConfig();
+            return System.nanoTime() - start;
+        });
+
+        // Lectura en estado estable: una pasada de calentamiento y otra medida
+        runConcurrently(threads, ignored -> readLoop(holder, readsPerThread));
+        long readsStart = System.nanoTime();
+        runConcurrently(threads, ignored -> readLoop(holder, readsPerThread));
+        long readsNanos = System.nanoTime() - readsStart;
+
+        long maxFirstAccess = 0;
+        long totalFirstAccess = 0;
+        for (long nanos : firstAccessNanos) {
+            maxFirstAccess = Math.max(maxFirstAccess, nanos);
+            totalFirstAccess += nanos;
+        }
+
+        return new StrategyResult(
+                strategy,
+                (double) readsNanos / readsPerThread,
+                constructionNanos / 1_000.0,
+                totalFirstAccess / 1_000.0 / threads,
+                maxFirstAccess / 1_000.0,
+                initializations.get()
+        );
+    }
+
+    private static long readLoop(ConfigHolder holder, int reads) {
+        long sink = 0;
+        for (int i = 0; i < reads; i++) {
+            sink += holder.getConfig().length();
+        }
+        return sink;
+    }
+
+    /**
+     * Arranca N threads de plataforma detrás de una barrera común y devuelve el
+     * valor calculado por cada uno.
+     */
+    private static long[] runConcurrently(int threads, Function<Integer, Long> task) throws InterruptedException {
+        long[] results = new long[threads];
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLong blackhole = new AtomicLong();
+        Thread[] workers = new Thread[threads];
+
+        for (int t = 0; t < threads; t++) {
+            int index = t;
+            workers[t] = Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                results[index] = task.apply(index);
+                blackhole.addAndGet(results[index]);
+            });
+        }
+
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return results;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Estrategia de inicialización perezosa comparable.
+     */
+    public interface ConfigHolder {
+        String getConfig();
+    }
+
+    /**
+     * 1. Tradicional con volatile (no lazy: se inicializa en el constructor)
+     */
+    public static final class VolatileHolder implements ConfigHolder {
+        private volatile String config;
+
+        public VolatileHolder(Supplier<String> loader) {
+            this.config = loader.get();
+        }
+
+        @Override
+        public String getConfig() {
+            return config;
+        }
+    }
+
+    /**
+     * 2. Double-checked locking (complejo, propenso a errores)
+     */
+    public static final class DoubleCheckedHolder implements ConfigHolder {
+        private final Supplier<String> loader;
+        private volatile String config;
+
+        public DoubleCheckedHolder(Supplier<String> loader) {
+            this.loader = loader;
+        }
+
+        @Override
+        public String getConfig() {
+            String value = config;
+            if (value == null) {
+                synchronized (this) {
+                    value = config;
+                    if (value == null) {
+                        value = loader.get();
+                        config = value;
+                    }
+                }
+            }
+            return value;
+        }
+    }
+
+    /**
+     * 3. StableValue en un campo de instancia
+     */
+    public static final class StableValueHolder implements ConfigHolder {
+        private final StableValue<String> config = StableValue.of();
+        private final Supplier<String> loader;
+
+        public StableValueHolder(Supplier<String> loader) {
+            this.loader = loader;
+        }
+
+        @Override
+        public String getConfig() {
+            return config.orElseSet(loader);
+        }
+    }
+
+    /**
+     * 4. StableValue en un campo static final: una vez establecido, el JIT puede
+     * tratar el contenido como constante y eliminar la lectura.
+     */
+    public static final class StaticStableValueHolder implements ConfigHolder {
+        private static final StableValue<String> CONFIG = StableValue.of();
+
+        @Override
+        public String getConfig() {
+            return CONFIG.orElseSet(StaticStableValueHolder::load);
+        }
+
+        private static String load() {
+            sleep(INIT_COST_MILLIS);
+            return "config-loaded-" + System.nanoTime();
+        }
+    }
+
+    /**
+     * Resultado de una estrategia. Los tiempos de construcción y primer acceso están en
+     * microsegundos; initializations cuenta las ejecuciones del loader compartido (el
+     * holder static final usa su propio loader y siempre reporta 0).
+     */
+    public record StrategyResult(
+            String strategy,
+            double nanosPerRead,
+            double constructionMicros,
+            double firstAccessAvgMicros,
+            double firstAccessMaxMicros,
+            int initializations) {}
+
+    public record ComparisonReport(int threads, int readsPerThread, List<StrategyResult> results) {}
+}
@@ -0,0 +1,77 @@
+package com.monghit.java25.features;
+
+import java.lang.StableValue;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Memoización por clave y acotada basada en StableValue.
+ *
+ * Mientras una clave se está calculando tiene su propio StableValue: el primer
+ * llamador ejecuta la función dentro de orElseSet y los llamadores concurrentes de la
+ * misma clave esperan a ese resultado en lugar de recalcularlo (single-flight). Si la
+ * función lanza una excepción el StableValue queda sin establecer y la siguiente
+ * llamada reintenta.
+ *
+ * El resultado se guarda en un MemoStore y el StableValue se descarta: por defecto un
+ * HeapMemoStore con expulsión FIFO al superar maxEntries, o un OffHeapCache para
+ * mantener millones de resultados fuera del heap. StableValue.function /
+ * StableValue.map requieren conocer el conjunto de claves de antemano; aquí las claves
+ * llegan de las peticiones, así que el almacén es abierto y acotado.
+ */
+public final class StableValueMemoizer<K, V> implements AutoCloseable {
+
+    private final Function<? super K, ? extends V> function;
+    private final MemoStore<K, V> store;
+    private final ConcurrentHashMap<K, StableValue<V>> inFlight = new ConcurrentHashMap<>();
+
+    public StableValueMemoizer(Function<? super K, ? extends V> function, int maxEntries) {
+        this(function, new HeapMemoStore<>(maxEntries));
+    }
+
+    public StableValueMemoizer(Function<? super K, ? extends V> function, MemoStore<K, V> store) {
+        this.function = Objects.requireNonNull(function, "function");
+        this.store = Objects.requireNonNull(store, "store");
+    }
+
+    /**
+     * Devuelve el valor memoizado para la clave, calculándolo una sola vez.
+     */
+    public V get(K key) {
+        V stored = store.get(key);
+        if (stored != null) {
+            return stored;
+        }
+        StableValue<V> slot = inFlight.computeIfAbsent(key, k -> StableValue.of());
+        try {
+            return slot.orElseSet(() -> {
+                // Otro llamador pudo guardar el valor entre la consulta y el alta del slot
+                V value = store.get(key);
+                if (value == null) {
+                    value = function.apply(key);
+                    store.put(key, value);
+                }
+                return value;
+            });
+        } finally {
+            // El valor ya está en el store; quien aún tenga el slot obtiene el mismo resultado
+            inFlight.remove(key, slot);
+        }
+    }
+
+    /**
+     * Número de claves actualmente memoizadas en el store.
+     */
+    public int size() {
+        return store.size();
+    }
+
+    /**
+     * Cierra el store (p. ej. libera la memoria off-heap).
+     */
+    @Override
+    public void close() {
+        store.close();
+    }
+}
@@ -1,7 +1,13 @@
 package com.monghit.java25.features;
 
+import com.monghit.java25.jfr.StableValueInitializedEvent;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import java.lang.StableValue;
+import java.util.function.Supplier;
 
 /**
  * Demo de Stable Values (JEP 572 - Preview)
@@ -14,58 +20,97 @@ import java.lang.StableValue;
  * - Inicialización perezosa thread-safe
  * - Mejor rendimiento que volatile o AtomicReference
  * - Garantía de inmutabilidad después de establecer
+ *
+ * Los resultados costosos por clave se guardan en el heap o, con
+ * java25.memo.store=off-heap, en un OffHeapCache que se libera al parar el contexto.
  */
 @Service
-public class StableValuesDemo {
+public class StableValuesDemo implements DisposableBean {
+
+    static final String HEAP_STORE = "heap";
+    static final String OFF_HEAP_STORE = "off-heap";
 
     // StableValue sin valor inicial
     private final StableValue<String> lazyConfig = StableValue.of();
     private final StableValue<DatabaseConnection> dbConnection = StableValue.of();
 
+    // Inicializadores precreados: la lectura en estado estable no asigna lambdas
+    private final Supplier<String> configInitializer =
+            () -> recordInitialization("lazyConfig", null, this::loadConfiguration);
+    private final Supplier<DatabaseConnection> connectionInitializer =
+            () -> recordInitialization("dbConnection", null, () -> new DatabaseConnection("localhost", 5432));
+
+    // Resultados costosos memoizados por clave (acotado)
+    static final String DEFAULT_EXPENSIVE_KEY = "complejo";
+    static final int EXPENSIVE_RESULTS_MAX_ENTRIES = 1_024;
+    private final StableValueMemoizer<String, ExpensiveResult> expensiveResults;
+
+    public StableValuesDemo() {
+        this(new HeapMemoStore<>(EXPENSIVE_RESULTS_MAX_ENTRIES));
+    }
+
+    @Autowired
+    public StableValuesDemo(
+            @Value("${java25.memo.store:heap}") String store,
+            @Value("${java25.memo.off-heap.max-entries:1000000}") int offHeapMaxEntries,
+            @Value("${java25.memo.off-heap.max-bytes:64MB}") DataSize offHeapMaxBytes) {
+        this(switch (store) {
+            case HEAP_STORE -> new HeapMemoStore<>(EXPENSIVE_RESULTS_MAX_ENTRIES);
+            case OFF_HEAP_STORE -> new OffHeapCache<>(BinaryCodec.STRING, BinaryCodec.EXPENSIVE_RESULT,
+                    offHeapMaxEntries, offHeapMaxBytes.toBytes());
+            default -> throw new IllegalArgumentException(
+                    "java25.memo.store debe ser '" + HEAP_STORE + "' o '" + OFF_HEAP_STORE + "': " + store);
+        });
+    }
+
+    StableValuesDemo(MemoStore<String, ExpensiveResult> expensiveResultStore) {
+        this.expensiveResults = new StableValueMemoizer<>(this::computeExpensiveResult, expensiveResultStore);
+    }
+
     /**
      * Ejemplo básico de StableValue
      */
     public String getLazyConfig() {
-        // Obtener o inicializar
-        return lazyConfig.orElseSet(() -> {
-            // Esta función solo se ejecuta la primera vez
-            System.out.println("Inicializando configuración...");
-            return loadConfiguration();
-        });
+        // Obtener o inicializar (el inicializador solo se ejecuta la primera vez)
+        return lazyConfig.orElseSet(configInitializer);
     }
 
     /**
      * Ejemplo con objeto complejo
      */
     public DatabaseConnection getConnection() {
-        return dbConnection.orElseSet(() -> {
-            System.out.println("Estableciendo conexión a BD...");
-            return new DatabaseConnection("localhost", 5432);
-        });
+        return dbConnection.orElseSet(connectionInitializer);
     }
 
     /**
      * Ejemplo de inicialización condicional
      */
     public String getOrSetValue(StableValue<String> stableValue, String newValue) {
-        return stableValue.orElseSet(() -> {
-            // Solo se ejecuta si no está establecido
-            System.out.println("Estableciendo nuevo valor: " + newValue);
-            return newValue;
-        });
+        // Solo se ejecuta si no está establecido
+        return stableValue.orElseSet(() -> recordInitialization("getOrSetValue", null, () -> newValue));
     }
 
     /**
-     * Ejemplo con cálculo costoso
+     * Ejemplo con cálculo costoso (clave por defecto)
      */
     public ExpensiveResult getExpensiveResult() {
-        StableValue<ExpensiveResult> result = StableValue.of();
+        return getExpensiveResult(DEFAULT_EXPENSIVE_KEY);
+    }
 
-        return result.orElseSet(() -> {
-            System.out.println("Realizando cálculo costoso...");
+    /**
+     * Cálculo costoso memoizado por clave: se calcula una vez por clave y se comparte
+     * entre threads; las llamadas concurrentes con la misma clave esperan al primer
+     * cálculo en lugar de repetirlo.
+     */
+    public ExpensiveResult getExpensiveResult(String key) {
+        return expensiveResults.get(key);
+    }
+
+    private ExpensiveResult computeExpensiveResult(String key) {
+        return recordInitialization("expensiveResult", key, () -> {
             // Simular operación costosa
             sleep(1000);
-            return new ExpensiveResult("resultado-complejo", 42);
+            return new ExpensiveResult("resultado-" + key, 42);
         });
     }
 
@@ -101,42 +146,42 @@ public class StableValuesDemo {
     }
 
     /**
-     * Comparación con alternativas tradicionales
+     * Comparación con alternativas tradicionales (volatile, double-checked locking,
+     * StableValue en campo de instancia y en campo static final)
      */
-    public void compareWithTraditionalApproaches() {
-        // 1. Tradicional con volatile (no lazy, usa memoria)
-        class VolatileExample {
-            private volatile String config = loadConfiguration();
-        }
+    public StableValueComparison.ComparisonReport compareWithTraditionalApproaches(
+            int threads, int readsPerThread) throws InterruptedException {
+        return StableValueComparison.run(threads, readsPerThread);
+    }
 
-        // 2. Double-checked locking (complejo, propenso a errores)
-        class DoubleCheckedExample {
-            private volatile String config;
-
-            public String getConfig() {
-                if (config == null) {
-                    synchronized (this) {
-                        if (config == null) {
-                            config = loadConfiguration();
-                        }
-                    }
-                }
-                return config;
-            }
-        }
+    /**
+     * Libera el almacén de resultados (la memoria off-heap si está configurada).
+     */
+    @Override
+    public void destroy() {
+        expensiveResults.close();
+    }
 
-        // 3. StableValue (simple, seguro, eficiente)
-        class StableValueExample {
-            private final StableValue<String> config = StableValue.of();
+    // Métodos auxiliares
 
-            public String getConfig() {
-                return config.orElseSet(() -> loadConfiguration());
-            }
+    /**
+     * Ejecuta el inicializador dentro de un evento JFR StableValueInitialized.
+     * Con el evento deshabilitado no se rellenan los campos y el JIT elimina la
+     * asignación del evento; habilitado, registra la duración de la inicialización.
+     */
+    private static <T> T recordInitialization(String name, String key, Supplier<T> initializer) {
+        StableValueInitializedEvent event = new StableValueInitializedEvent();
+        event.begin();
+        T value = initializer.get();
+        event.end();
+        if (event.shouldCommit()) {
+            event.name = name;
+            event.key = key;
+            event.commit();
         }
+        return value;
     }
 
-    // Métodos auxiliares
-
     private String loadConfiguration() {
         sleep(100);
         return "config-loaded-" + System.currentTimeMillis();
@@ -0,0 +1,149 @@
+package com.monghit.java25.features;
+
+/**
+ * Conversión estricta a int que informa de si hubo pérdida (JEP 455 - Preview).
+ *
+ * safeConvertToInt trunca en silencio (l.intValue(), d.intValue()) y lanza
+ * NumberFormatException con strings no numéricos. Aquí la exactitud se comprueba con
+ * instanceof primitivo: "value instanceof int i" sobre un long o un double solo es
+ * cierto si el valor es representable exactamente como int.
+ *
+ * El resultado se empaqueta en un long (valor en los 32 bits bajos, Outcome en los
+ * altos) para no asignar nada en la ruta caliente; Conversion es la vista para la API.
+ * Ningún método lanza excepciones con entradas inválidas: devuelven FAILED.
+ */
+public final class StrictIntConverter {
+
+    /**
+     * LOSSLESS: el valor es exacto. LOSSY: se ha truncado (mismo valor que
+     * safeConvertToInt). FAILED: la entrada no es un número convertible.
+     */
+    public enum Outcome { LOSSLESS, LOSSY, FAILED }
+
+    private static final Outcome[] OUTCOMES = Outcome.values();
+
+    private static final long FAILED_CONVERSION = pack(0, Outcome.FAILED);
+
+    private StrictIntConverter() {
+    }
+
+    public static long convert(int value) {
+        return pack(value, Outcome.LOSSLESS);
+    }
+
+    public static long convert(long value) {
+        if (value instanceof int i) {
+            return pack(i, Outcome.LOSSLESS);
+        }
+        return pack((int) value, Outcome.LOSSY);
+    }
+
+    /**
+     * NaN e infinitos no tienen valor entero: FAILED. Fracciones, -0.0 y valores fuera
+     * de rango son LOSSY con el valor de (int) d.
+     */
+    public static long convert(double value) {
+        if (value instanceof int i) {
+            return pack(i, Outcome.LOSSLESS);
+        }
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return FAILED_CONVERSION;
+        }
+        return pack((int) value, Outcome.LOSSY);
+    }
+
+    /**
+     * Parser decimal sin asignaciones: [+-]dígitos[.dígitos]. Una parte fraccionaria
+     * de ceros es exacta; cualquier otra se trunca (LOSSY). Los enteros fuera del rango
+     * de int son LOSSY (como un long); fuera del rango de long, exponentes, espacios o
+     * cualquier otro carácter son FAILED.
+     */
+    public static long convert(CharSequence text) {
+        int length = text.length();
+        int i = 0;
+        boolean negative = false;
+        if (i < length && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+            negative = text.charAt(i) == '-';
+            i++;
+        }
+        int digitsStart = i;
+        long accumulated = 0;
+        for (; i < length; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            if (accumulated < (Long.MIN_VALUE + digit) / 10) {
+                return FAILED_CONVERSION;
+            }
+            // Se acumula en negativo para cubrir Long.MIN_VALUE
+            accumulated = accumulated * 10 - digit;
+        }
+        if (i == digitsStart) {
+            return FAILED_CONVERSION;
+        }
+
+        boolean fractional = false;
+        if (i < length && text.charAt(i) == '.') {
+            int fractionStart = ++i;
+            for (; i < length; i++) {
+                char c = text.charAt(i);
+                if (c < '0' || c > '9') {
+                    return FAILED_CONVERSION;
+                }
+                fractional |= c != '0';
+            }
+            if (i == fractionStart) {
+                return FAILED_CONVERSION;
+            }
+        }
+        if (i != length) {
+            return FAILED_CONVERSION;
+        }
+
+        if (!negative) {
+            if (accumulated == Long.MIN_VALUE) {
+                return FAILED_CONVERSION;
+            }
+            accumulated = -accumulated;
+        }
+        long converted = convert(accumulated);
+        return fractional ? pack(valueOf(converted), Outcome.LOSSY) : converted;
+    }
+
+    /**
+     * Conversión de los mismos tipos que acepta safeConvertToInt. null y los tipos no
+     * soportados son FAILED.
+     */
+    public static long convert(Object value) {
+        return switch (value) {
+            case Integer i -> convert((int) i);
+            case Long l -> convert((long) l);
+            case Double d -> convert((double) d);
+            case String s -> convert((CharSequence) s);
+            case null, default -> FAILED_CONVERSION;
+        };
+    }
+
+    public static int valueOf(long packed) {
+        return (int) packed;
+    }
+
+    public static Outcome outcomeOf(long packed) {
+        return OUTCOMES[(int) (packed >>> 32)];
+    }
+
+    static long pack(int value, Outcome outcome) {
+        return ((long) outcome.ordinal() << 32) | (value & 0xFFFF_FFFFL);
+    }
+
+    /**
+     * Vista desempaquetada de una conversión.
+     */
+    public record Conversion(int value, Outcome outcome) {
+
+        public static Conversion of(long packed) {
+            return new Conversion(valueOf(packed), outcomeOf(packed));
+        }
+    }
+}
@@ -1,16 +1,32 @@
 package com.monghit.java25.features;
 
+import com.monghit.java25.jfr.SubtaskForkedEvent;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.StructuredTaskScope.Joiner;
+import java.util.concurrent.StructuredTaskScope.Subtask;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
 /**
  * Demo de Structured Concurrency (JEP 505 - Preview en Java 25)
  *
  * NOTA IMPORTANTE: La API de StructuredTaskScope cambió significativamente en Java 25.
  * ShutdownOnFailure y ShutdownOnSuccess ya NO son clases estáticas internas.
- * StructuredTaskScope es ahora una sealed interface con una única implementación.
- *
- * Esta demo muestra ejemplos conceptuales. Para código funcional completo,
- * se requiere usar la nueva API de Java 25 que está en evolución.
+ * StructuredTaskScope es ahora una sealed interface con una única implementación,
+ * que se abre con StructuredTaskScope.open() y cuya política se define con un Joiner.
  *
  * Referencia: https://rockthejvm.com/articles/structured-concurrency-jdk-25
  */
@@ -18,106 +34,451 @@ import org.springframework.stereotype.Service;
 public class StructuredConcurrencyDemo {
 
     /**
-     * NOTA: En Java 25, la API de StructuredTaskScope cambió.
-     * Los ejemplos aquí son conceptuales hasta que la API se estabilice.
-     *
+     * Deadline absoluto de la petición en curso. Se propaga a las subtareas forkeadas
+     * (los forks heredan los scoped values) y a los scopes anidados, que nunca pueden
+     * alargarlo, solo acortarlo.
+     */
+    static final ScopedValue<Instant> DEADLINE = ScopedValue.newInstance();
+
+    /**
+     * Elementos procesados por cada subtarea en processBatch: evita forkear un
+     * virtual thread por elemento cuando el trabajo por elemento es mínimo.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    /**
+     * Máximo de elementos que admiten los endpoints de procesamiento por lotes.
+     */
+    public static final int MAX_BATCH_ITEMS = 10_000;
+
+    /**
+     * Filas simuladas por categoría para la agregación.
+     */
+    static final int CATEGORY_ROWS = 1_000_000;
+
+    /**
+     * Tamaño de cada caché de user-data: 4 MB aproximados, dimensionada para ~20k usuarios.
+     */
+    static final long USER_DATA_CACHE_BYTES = 4L * 1024 * 1024;
+    static final int USER_DATA_CACHE_ENTRIES = 20_000;
+
+    /**
+     * Un limitador adaptativo por backend simulado: cada subtarea que llama a uno de
+     * ellos necesita un permiso, y sin hueco falla al instante con
+     * BackendOverloadedException en lugar de sumarse a la cola del backend.
+     */
+    private final Map<String, AdaptiveConcurrencyLimiter> backendLimiters;
+    private final AdaptiveConcurrencyLimiter databaseLimiter;
+    private final AdaptiveConcurrencyLimiter apiLimiter;
+    private final AdaptiveConcurrencyLimiter slowOp1Limiter;
+    private final AdaptiveConcurrencyLimiter slowOp2Limiter;
+
+    /**
+     * Coalescencia de las consultas de fetchUserDataWithFailure, con claves
+     * "profile:", "orders:" y "preferences:" + userId.
+     */
+    private final SingleFlight<String, String> userDataFlights = new SingleFlight<>("user-data");
+
+    /**
+     * Cachés de las consultas de usuario, con TTL según lo que cambia cada dato y
+     * refresco anticipado al 80 % del TTL. El peso son bytes aproximados.
+     */
+    private final TinyLfuCache<String, String> profileCache = userDataCache("profile", Duration.ofMinutes(5));
+    private final TinyLfuCache<String, String> ordersCache = userDataCache("orders", Duration.ofSeconds(30));
+    private final TinyLfuCache<String, String> preferencesCache = userDataCache("preferences", Duration.ofMinutes(10));
+
+    private final SimulatedLatency latency;
+
+    public StructuredConcurrencyDemo() {
+        this(AdaptiveConcurrencyLimiter.Settings.DEFAULT);
+    }
+
+    public StructuredConcurrencyDemo(AdaptiveConcurrencyLimiter.Settings limiterSettings) {
+        this(limiterSettings, SimulatedLatency.SLEEP);
+    }
+
+    StructuredConcurrencyDemo(AdaptiveConcurrencyLimiter.Settings limiterSettings, SimulatedLatency latency) {
+        this.latency = Objects.requireNonNull(latency, "latency");
+        this.databaseLimiter = new AdaptiveConcurrencyLimiter("database", limiterSettings);
+        this.apiLimiter = new AdaptiveConcurrencyLimiter("api", limiterSettings);
+        this.slowOp1Limiter = new AdaptiveConcurrencyLimiter("slowOperation1", limiterSettings);
+        this.slowOp2Limiter = new AdaptiveConcurrencyLimiter("slowOperation2", limiterSettings);
+        this.backendLimiters = Map.of(
+                databaseLimiter.name(), databaseLimiter,
+                apiLimiter.name(), apiLimiter,
+                slowOp1Limiter.name(), slowOp1Limiter,
+                slowOp2Limiter.name(), slowOp2Limiter);
+    }
+
+    /**
+     * Estado de los limitadores de cada backend, ordenado por nombre.
+     */
+    public Map<String, AdaptiveConcurrencyLimiter.Stats> backendStats() {
+        Map<String, AdaptiveConcurrencyLimiter.Stats> stats = new TreeMap<>();
+        backendLimiters.forEach((name, limiter) -> stats.put(name, limiter.stats()));
+        return stats;
+    }
+
+    /**
+     * Aciertos, fallos, expulsiones y ocupación de las cachés de user-data.
+     */
+    public Map<String, TinyLfuCache.CacheStats> userDataCacheStats() {
+        Map<String, TinyLfuCache.CacheStats> stats = new TreeMap<>();
+        for (TinyLfuCache<String, String> cache : List.of(profileCache, ordersCache, preferencesCache)) {
+            stats.put(cache.name(), cache.stats());
+        }
+        return stats;
+    }
+
+    private static TinyLfuCache<String, String> userDataCache(String name, Duration ttl) {
+        var settings = new TinyLfuCache.Settings(USER_DATA_CACHE_BYTES, USER_DATA_CACHE_ENTRIES,
+                ttl, ttl.multipliedBy(4).dividedBy(5));
+        // Cabecera de objetos y nodo (~96 bytes) más los caracteres Latin-1 de clave y valor
+        return new TinyLfuCache<>(name, settings, (userId, value) -> 96 + userId.length() + value.length());
+    }
+
+    /**
+     * Ejecuciones, llamadas compartidas y cancelaciones de la coalescencia de user-data.
+     */
+    public SingleFlight.Stats userDataFlightStats() {
+        return userDataFlights.stats();
+    }
+
+    /*
      * La nueva API en Java 25:
      * - StructuredTaskScope es una sealed interface
      * - join() ahora lanza FailedException (unchecked) en lugar de ExecutionException
-     * - Las políticas de concurrencia (ShutdownOnFailure, ShutdownOnSuccess) cambiaron
+     * - Las políticas de concurrencia (ShutdownOnFailure, ShutdownOnSuccess) se
+     *   sustituyen por Joiners (awaitAllSuccessfulOrThrow, anySuccessfulResultOrThrow...)
      */
 
+    /**
+     * Fan-out de las tres consultas de usuario en paralelo.
+     *
+     * StructuredTaskScope.open() usa el Joiner por defecto (awaitAllSuccessfulOrThrow):
+     * cada fork corre en su propio virtual thread, el primer fallo cancela a las
+     * subtareas hermanas y join() lanza FailedException con la causa original.
+     * La latencia total es max(latencias) en lugar de la suma.
+     *
+     * Cada consulta se sirve primero de su TinyLfuCache; en un fallo pasa por
+     * userDataFlights, así que las peticiones concurrentes del mismo usuario comparten
+     * una única consulta en vuelo por fetcher.
+     */
     public String fetchUserDataWithFailure(String userId) throws Exception {
-        // Ejemplo conceptual - la implementación requiere la nueva API de Java 25
-        // En Java 25, se usa StructuredTaskScope con una estrategia diferente
-
-        // Simulación simple para demostración
-        String user = fetchUserProfile(userId);
-        String orders = fetchUserOrders(userId);
-        String preferences = fetchUserPreferences(userId);
-
-        return String.format("User: %s, Orders: %s, Preferences: %s",
-                user, orders, preferences);
+        try (var scope = StructuredTaskScope.open()) {
+            Subtask<String> user = scope.fork(traced("fetchUserProfile",
+                    () -> profileCache.get(userId,
+                            () -> userDataFlights.execute("profile:" + userId, () -> fetchUserProfile(userId)))));
+            Subtask<String> orders = scope.fork(traced("fetchUserOrders",
+                    () -> ordersCache.get(userId,
+                            () -> userDataFlights.execute("orders:" + userId, () -> fetchUserOrders(userId)))));
+            Subtask<String> preferences = scope.fork(traced("fetchUserPreferences",
+                    () -> preferencesCache.get(userId,
+                            () -> userDataFlights.execute("preferences:" + userId, () -> fetchUserPreferences(userId)))));
+
+            scope.join();
+
+            return String.format("User: %s, Orders: %s, Preferences: %s",
+                    user.get(), orders.get(), preferences.get());
+        }
     }
 
+    /**
+     * Carrera "first success wins" con la política de hedging por defecto.
+     */
     public String fetchFromMultipleSources(String query) throws Exception {
-        // En Java 25, la forma de hacer "shutdown on success" cambió
-        // Este es un ejemplo simplificado
+        return fetchFromMultipleSources(query, HedgingPolicy.DEFAULT);
+    }
 
-        return fetchFromCache(query);
+    /**
+     * Carrera entre caché, base de datos y API con Joiner.anySuccessfulResultOrThrow().
+     *
+     * Las tres fuentes se forkean a la vez, pero los backends caros esperan su retraso
+     * de hedging antes de lanzar la consulta: si la caché responde antes, el scope se
+     * cancela, sus virtual threads se interrumpen durante la espera y nunca llegan a
+     * cargar la base de datos ni la API (ni a ocupar un permiso de su limitador).
+     */
+    public String fetchFromMultipleSources(String query, HedgingPolicy policy) throws Exception {
+        try (var scope = StructuredTaskScope.open(Joiner.<String>anySuccessfulResultOrThrow())) {
+            scope.fork(traced("fetchFromCache", () -> fetchFromCache(query)));
+            scope.fork(traced("fetchFromDatabase",
+                    () -> hedged(policy.databaseDelay(), () -> databaseLimiter.call(() -> fetchFromDatabase(query)))));
+            scope.fork(traced("fetchFromAPI",
+                    () -> hedged(policy.apiDelay(), () -> apiLimiter.call(() -> fetchFromAPI(query)))));
+
+            return scope.join();
+        }
     }
 
+    /**
+     * Ejecuta ambas operaciones lentas en paralelo y espera a las dos (sin deadline).
+     */
     public String fetchWithTimeout(String userId) throws Exception {
-        // Ejemplo simplificado
-        String result1 = slowOperation1(userId);
-        String result2 = slowOperation2(userId);
+        var results = new CompletedResults<String>();
+        try (var scope = StructuredTaskScope.open(results)) {
+            return joinPartial(scope, results, userId);
+        }
+    }
 
-        return result1 + " | " + result2;
+    /**
+     * Ejecuta ambas operaciones lentas en paralelo con un deadline.
+     *
+     * El deadline se aplica con Configuration.withTimeout: al expirar, el scope se
+     * cancela e interrumpe las subtareas pendientes. En lugar de fallar, se devuelve lo
+     * que haya terminado y un marcador "[timeout]" por cada parte que no llegó a tiempo.
+     * Si ya hay un DEADLINE más cercano en el scope actual, se respeta ese.
+     */
+    public String fetchWithTimeout(String userId, Duration timeout) throws Exception {
+        Instant deadline = Instant.now().plus(timeout);
+        if (DEADLINE.isBound() && DEADLINE.get().isBefore(deadline)) {
+            deadline = DEADLINE.get();
+        }
+        Instant effectiveDeadline = deadline;
+
+        return ScopedValue.where(DEADLINE, effectiveDeadline).call(() -> {
+            Duration remaining = Duration.between(Instant.now(), effectiveDeadline);
+            if (!remaining.isPositive()) {
+                return timeoutMarker("slowOperation1") + " | " + timeoutMarker("slowOperation2");
+            }
+            var results = new CompletedResults<String>();
+            try (var scope = StructuredTaskScope.open(results, cf -> cf.withTimeout(remaining))) {
+                return joinPartial(scope, results, userId);
+            }
+        });
     }
 
+    private String joinPartial(StructuredTaskScope<String, Void> scope,
+                               CompletedResults<String> results,
+                               String userId) throws InterruptedException {
+        Subtask<String> op1 = scope.fork(traced("slowOperation1",
+                () -> slowOp1Limiter.call(() -> slowOperation1(userId))));
+        Subtask<String> op2 = scope.fork(traced("slowOperation2",
+                () -> slowOp2Limiter.call(() -> slowOperation2(userId))));
+
+        boolean timedOut = false;
+        try {
+            scope.join();
+        } catch (StructuredTaskScope.TimeoutException e) {
+            timedOut = true;
+        }
+
+        // Tras un timeout el owner no puede llamar a Subtask.get(): los resultados
+        // se leen del Joiner, que los capturó al completarse cada subtarea
+        return partialResult(results, op1, "slowOperation1", timedOut)
+                + " | " + partialResult(results, op2, "slowOperation2", timedOut);
+    }
+
+    private static String partialResult(CompletedResults<String> results, Subtask<String> subtask,
+                                        String operation, boolean timedOut) {
+        String value = results.valueOf(subtask);
+        if (value != null) {
+            return value;
+        }
+        if (results.wasRejected(subtask)) {
+            return "[overloaded] " + operation;
+        }
+        return timedOut ? timeoutMarker(operation) : "[error] " + operation;
+    }
+
+    private static String timeoutMarker(String operation) {
+        return "[timeout] " + operation;
+    }
+
+    /**
+     * Procesa las tres etapas en paralelo; el resultado de cada una se recoge de su
+     * subtarea, así que cada etapa se calcula exactamente una vez.
+     */
     public String processWithVirtualThreads(String data) throws Exception {
-        // Ejemplo con virtual threads simple
-        Thread t1 = Thread.ofVirtual().start(() -> processData1(data));
-        Thread t2 = Thread.ofVirtual().start(() -> processData2(data));
-        Thread t3 = Thread.ofVirtual().start(() -> processData3(data));
+        try (var scope = StructuredTaskScope.open()) {
+            Subtask<String> result1 = scope.fork(traced("processData1", () -> processData1(data)));
+            Subtask<String> result2 = scope.fork(traced("processData2", () -> processData2(data)));
+            Subtask<String> result3 = scope.fork(traced("processData3", () -> processData3(data)));
 
-        t1.join();
-        t2.join();
-        t3.join();
+            scope.join();
 
-        return String.format("Resultados: [%s, %s, %s]",
-                processData1(data), processData2(data), processData3(data));
+            return String.format("Resultados: [%s, %s, %s]",
+                    result1.get(), result2.get(), result3.get());
+        }
+    }
+
+    /**
+     * Procesamiento masivo con el tamaño de lote por defecto.
+     */
+    public List<String> processBatch(List<String> items) throws Exception {
+        return processBatch(items, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Etapa de map paralela: divide la lista en lotes de batchSize elementos, procesa
+     * cada lote en su propia subtarea y devuelve los resultados en el orden de entrada.
+     */
+    public List<String> processBatch(List<String> items, int batchSize) throws Exception {
+        return parallelMap(items, batchSize, this::processItem);
+    }
+
+    static <T, R> List<R> parallelMap(List<T> items, int batchSize,
+                                      Function<? super T, ? extends R> mapper) throws InterruptedException {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize debe ser positivo: " + batchSize);
+        }
+        if (items.isEmpty()) {
+            return List.of();
+        }
+
+        try (var scope = StructuredTaskScope.open()) {
+            List<Subtask<List<R>>> batches = new ArrayList<>();
+            for (int from = 0; from < items.size(); from += batchSize) {
+                List<T> batch = items.subList(from, Math.min(from + batchSize, items.size()));
+                batches.add(scope.fork(traced("mapBatch", () -> mapBatch(batch, mapper))));
+            }
+
+            scope.join();
+
+            List<R> results = new ArrayList<>(items.size());
+            for (Subtask<List<R>> batch : batches) {
+                results.addAll(batch.get());
+            }
+            return results;
+        }
+    }
+
+    private static <T, R> List<R> mapBatch(List<T> batch, Function<? super T, ? extends R> mapper) {
+        List<R> mapped = new ArrayList<>(batch.size());
+        for (T item : batch) {
+            mapped.add(mapper.apply(item));
+        }
+        return mapped;
+    }
+
+    private String processItem(String data) {
+        return "[" + processData1(data) + ", " + processData2(data) + ", " + processData3(data) + "]";
     }
 
+    /**
+     * Agrega los datos de una categoría usando una partición por core disponible.
+     */
     public Summary aggregateData(String category) throws Exception {
-        // Ejemplo simplificado sin StructuredTaskScope
-        int count = getCount(category);
-        double sum = getSum(category);
-        double avg = getAverage(category);
-        int max = getMax(category);
+        return aggregateData(category, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Agrega los datos de una categoría en una sola pasada, repartida en particiones.
+     */
+    public Summary aggregateData(String category, int partitions) throws Exception {
+        return aggregate(CATEGORY_ROWS, row -> categoryValue(category, row), partitions);
+    }
+
+    /**
+     * Motor de agregación: cada partición recorre su rango de filas en una subtarea
+     * acumulando count, sum y max en un SummaryAccumulator; después los acumuladores
+     * parciales se combinan con merge() y la media se deriva de sum / count.
+     */
+    static Summary aggregate(int rows, IntUnaryOperator valueAt, int partitions) throws InterruptedException {
+        if (partitions <= 0) {
+            throw new IllegalArgumentException("partitions debe ser positivo: " + partitions);
+        }
+        int chunk = Math.max(1, (rows + partitions - 1) / partitions);
+
+        try (var scope = StructuredTaskScope.open()) {
+            List<Subtask<SummaryAccumulator>> partials = new ArrayList<>();
+            for (int from = 0; from < rows; from += chunk) {
+                int start = from;
+                int end = Math.min(from + chunk, rows);
+                partials.add(scope.fork(traced("scanPartition", () -> scan(valueAt, start, end))));
+            }
+
+            scope.join();
+
+            SummaryAccumulator total = new SummaryAccumulator();
+            for (Subtask<SummaryAccumulator> partial : partials) {
+                total.merge(partial.get());
+            }
+            return total.toSummary();
+        }
+    }
+
+    private static SummaryAccumulator scan(IntUnaryOperator valueAt, int from, int to) {
+        SummaryAccumulator accumulator = new SummaryAccumulator();
+        for (int row = from; row < to; row++) {
+            accumulator.add(valueAt.applyAsInt(row));
+        }
+        return accumulator;
+    }
+
+    /**
+     * Envuelve una subtarea en un evento JFR SubtaskForked que mide su ejecución en el
+     * virtual thread del fork. Con el evento deshabilitado solo cuesta la comprobación
+     * de shouldCommit().
+     */
+    static <T> Callable<T> traced(String task, Callable<T> callable) {
+        return () -> {
+            SubtaskForkedEvent event = new SubtaskForkedEvent();
+            event.begin();
+            boolean succeeded = false;
+            try {
+                T result = callable.call();
+                succeeded = true;
+                return result;
+            } finally {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.task = task;
+                    event.succeeded = succeeded;
+                    event.commit();
+                }
+            }
+        };
+    }
 
-        return new Summary(count, sum, avg, max);
+    /**
+     * Espera el retraso de hedging (interrumpible) y después consulta el backend.
+     */
+    private static <T> T hedged(Duration delay, Supplier<T> backend) throws InterruptedException {
+        if (delay.isPositive()) {
+            Thread.sleep(delay);
+        }
+        return backend.get();
     }
 
     // Métodos auxiliares de simulación
 
     private String fetchUserProfile(String userId) {
-        sleep(100);
+        sleep("profile", 100);
         return "Profile-" + userId;
     }
 
     private String fetchUserOrders(String userId) {
-        sleep(150);
+        sleep("orders", 150);
         return "Orders-" + userId;
     }
 
     private String fetchUserPreferences(String userId) {
-        sleep(80);
+        sleep("preferences", 80);
         return "Preferences-" + userId;
     }
 
     private String fetchFromDatabase(String query) {
-        sleep(200);
+        sleep("database", 200);
         return "DB-Result: " + query;
     }
 
     private String fetchFromCache(String query) {
-        sleep(50);
+        sleep("cache", 50);
         return "Cache-Result: " + query;
     }
 
     private String fetchFromAPI(String query) {
-        sleep(300);
+        sleep("api", 300);
         return "API-Result: " + query;
     }
 
     private String slowOperation1(String userId) {
-        sleep(1000);
+        sleep("slowOperation1", 1000);
         return "SlowOp1-" + userId;
     }
 
     private String slowOperation2(String userId) {
-        sleep(1500);
+        sleep("slowOperation2", 1500);
         return "SlowOp2-" + userId;
     }
 
@@ -133,34 +494,123 @@ public class StructuredConcurrencyDemo {
         return "Processed3-" + data;
     }
 
-    private int getCount(String category) {
-        sleep(100);
-        return 42;
+    /**
+     * Valor simulado de una fila (0..999), determinista para que la agregación sea
+     * reproducible con cualquier número de particiones. El hash de la categoría se
+     * dispersa a 64 bits antes de mezclarlo: un desplazamiento o un XOR en los bits
+     * bajos solo permutaría los mismos valores y todas las categorías sumarían igual.
+     */
+    static int categoryValue(String category, int row) {
+        long salt = category.hashCode() * 0x9E37_79B9_7F4A_7C15L;
+        return (int) Math.floorMod((row * 2_654_435_761L) ^ salt, 1000L);
     }
 
-    private double getSum(String category) {
-        sleep(120);
-        return 1234.56;
+    private void sleep(String backend, long millis) {
+        try {
+            latency.pause(backend, millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 
-    private double getAverage(String category) {
-        sleep(90);
-        return 29.39;
-    }
+    /**
+     * Latencia de los backends simulados. Por defecto un Thread.sleep con la latencia
+     * nominal; los tests la sustituyen por latches para comprobar el solapamiento y la
+     * cancelación sin depender del reloj.
+     */
+    @FunctionalInterface
+    interface SimulatedLatency {
+
+        SimulatedLatency SLEEP = (backend, millis) -> Thread.sleep(millis);
 
-    private int getMax(String category) {
-        sleep(110);
-        return 999;
+        void pause(String backend, long millis) throws InterruptedException;
     }
 
-    private void sleep(long millis) {
-        try {
-            Thread.sleep(millis);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+    /**
+     * Joiner que nunca cancela el scope y guarda el resultado de cada subtarea que
+     * termina con éxito, de modo que siguen disponibles aunque join() expire. También
+     * anota las subtareas rechazadas por el limitador de su backend.
+     */
+    private static final class CompletedResults<T> implements Joiner<T, Void> {
+
+        private final Map<Subtask<? extends T>, T> values = new ConcurrentHashMap<>();
+        private final Set<Subtask<? extends T>> rejected = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public boolean onComplete(Subtask<? extends T> subtask) {
+            if (subtask.state() == Subtask.State.SUCCESS && subtask.get() != null) {
+                values.put(subtask, subtask.get());
+            } else if (subtask.state() == Subtask.State.FAILED
+                    && subtask.exception() instanceof BackendOverloadedException) {
+                rejected.add(subtask);
+            }
+            return false;
+        }
+
+        @Override
+        public Void result() {
+            return null;
+        }
+
+        T valueOf(Subtask<? extends T> subtask) {
+            return values.get(subtask);
+        }
+
+        boolean wasRejected(Subtask<? extends T> subtask) {
+            return rejected.contains(subtask);
         }
     }
 
     // Record para el ejemplo de agregación
     public record Summary(int count, double sum, double average, int max) {}
+
+    /**
+     * Acumulador mutable y combinable para calcular un Summary en una sola pasada.
+     * No es thread-safe: cada partición usa el suyo y se combinan al final.
+     */
+    public static final class SummaryAccumulator {
+
+        private int count;
+        private long sum;
+        private int max = Integer.MIN_VALUE;
+
+        public SummaryAccumulator add(int value) {
+            count++;
+            sum += value;
+            max = Math.max(max, value);
+            return this;
+        }
+
+        public SummaryAccumulator merge(SummaryAccumulator other) {
+            count += other.count;
+            sum += other.sum;
+            max = Math.max(max, other.max);
+            return this;
+        }
+
+        public Summary toSummary() {
+            if (count == 0) {
+                return new Summary(0, 0, 0, 0);
+            }
+            return new Summary(count, sum, (double) sum / count, max);
+        }
+    }
+
+    /**
+     * Retrasos tras los cuales se lanzan los backends caros si la caché no ha respondido.
+     * Duration.ZERO lanza el backend inmediatamente (carrera pura).
+     */
+    public record HedgingPolicy(Duration databaseDelay, Duration apiDelay) {
+
+        public static final HedgingPolicy DEFAULT =
+                new HedgingPolicy(Duration.ofMillis(100), Duration.ofMillis(250));
+
+        public HedgingPolicy {
+            Objects.requireNonNull(databaseDelay, "databaseDelay");
+            Objects.requireNonNull(apiDelay, "apiDelay");
+            if (databaseDelay.isNegative() || apiDelay.isNegative()) {
+                throw new IllegalArgumentException("Los retrasos de hedging no pueden ser negativos");
+            }
+        }
+    }
 }
@@ -0,0 +1,168 @@
+package com.monghit.java25.features;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bulkhead por tenant sobre el binding ScopedValuesDemo.TENANT_ID.
+ *
+ * Con virtual threads el número de peticiones concurrentes no tiene techo, así que un
+ * tenant ruidoso puede ocupar todos los fan-out a los backends. Cada tenant tiene su
+ * propio compartimento: un Semaphore justo (orden FIFO entre los que esperan) con
+ * maxConcurrent permisos, una cola acotada a maxQueued esperas y un tiempo máximo de
+ * espera. Lo que no cabe en la cola o no obtiene permiso a tiempo se descarta (load
+ * shedding) en lugar de acumularse.
+ *
+ * Las peticiones sin TENANT_ID comparten el compartimento DEFAULT_TENANT, y a partir de
+ * maxTenants compartimentos los tenants nuevos comparten OVERFLOW_TENANT, para que
+ * cabeceras arbitrarias no hagan crecer el mapa sin límite.
+ */
+@Service
+public class TenantBulkhead {
+
+    public static final String DEFAULT_TENANT = "default";
+    public static final String OVERFLOW_TENANT = "overflow";
+
+    private final boolean enabled;
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final Duration maxWait;
+    private final int maxTenants;
+    private final Map<String, Compartment> compartments = new ConcurrentHashMap<>();
+
+    public TenantBulkhead(
+            @Value("${java25.bulkhead.enabled:true}") boolean enabled,
+            @Value("${java25.bulkhead.max-concurrent-per-tenant:32}") int maxConcurrent,
+            @Value("${java25.bulkhead.max-queued-per-tenant:64}") int maxQueued,
+            @Value("${java25.bulkhead.max-wait:250ms}") Duration maxWait,
+            @Value("${java25.bulkhead.max-tenants:1024}") int maxTenants) {
+        if (maxConcurrent < 1 || maxQueued < 0 || maxTenants < 1 || maxWait.isNegative()) {
+            throw new IllegalArgumentException("Configuración de bulkhead inválida");
+        }
+        this.enabled = enabled;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+        this.maxWait = maxWait;
+        this.maxTenants = maxTenants;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Tenant del scope actual según TENANT_ID, o DEFAULT_TENANT si no está enlazado.
+     */
+    public static String currentTenant() {
+        return ScopedValuesDemo.TENANT_ID.isBound() && ScopedValuesDemo.TENANT_ID.get() != null
+                ? ScopedValuesDemo.TENANT_ID.get()
+                : DEFAULT_TENANT;
+    }
+
+    /**
+     * Intenta obtener un permiso para el tenant del scope actual. Devuelve null si la
+     * petición se descarta (cola llena, espera agotada o thread interrumpido); en otro
+     * caso el Permit debe cerrarse al terminar.
+     */
+    public Permit tryAcquire() {
+        Compartment compartment = compartment(currentTenant());
+        if (compartment.queued.incrementAndGet() > maxQueued && compartment.permits.availablePermits() == 0) {
+            compartment.queued.decrementAndGet();
+            compartment.rejected.increment();
+            return null;
+        }
+        try {
+            if (!compartment.permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS)) {
+                compartment.rejected.increment();
+                return null;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            compartment.rejected.increment();
+            return null;
+        } finally {
+            compartment.queued.decrementAndGet();
+        }
+        compartment.admitted.increment();
+        return new Permit(compartment);
+    }
+
+    /**
+     * Estadísticas por tenant, ordenadas por nombre.
+     */
+    public Map<String, TenantStats> stats() {
+        Map<String, TenantStats> stats = new TreeMap<>();
+        compartments.forEach((tenant, compartment) -> stats.put(tenant, new TenantStats(
+                maxConcurrent - compartment.permits.availablePermits(),
+                compartment.permits.getQueueLength(),
+                compartment.admitted.sum(),
+                compartment.completed.sum(),
+                compartment.rejected.sum())));
+        return stats;
+    }
+
+    private Compartment compartment(String tenant) {
+        Compartment compartment = compartments.get(tenant);
+        if (compartment != null) {
+            return compartment;
+        }
+        if (compartments.size() >= maxTenants) {
+            tenant = OVERFLOW_TENANT;
+        }
+        return compartments.computeIfAbsent(tenant, t -> new Compartment(maxConcurrent));
+    }
+
+    /**
+     * Permiso concedido; close() lo devuelve al compartimento del tenant. Es idempotente
+     * y seguro entre threads: en peticiones asíncronas puede cerrarse desde los
+     * callbacks del contenedor.
+     */
+    public static final class Permit implements AutoCloseable {
+
+        private final Compartment compartment;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Compartment compartment) {
+            this.compartment = compartment;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                compartment.completed.increment();
+                compartment.permits.release();
+            }
+        }
+    }
+
+    private static final class Compartment {
+
+        final Semaphore permits;
+        // Peticiones entre la entrada y la obtención del permiso (esperando o a punto)
+        final AtomicInteger queued = new AtomicInteger();
+        final LongAdder admitted = new LongAdder();
+        final LongAdder completed = new LongAdder();
+        final LongAdder rejected = new LongAdder();
+
+        Compartment(int maxConcurrent) {
+            this.permits = new Semaphore(maxConcurrent, true);
+        }
+    }
+
+    /**
+     * inFlight: permisos en uso. queued: esperando permiso. admitted, completed y
+     * rejected: contadores acumulados desde el arranque.
+     */
+    public record TenantStats(int inFlight, int queued, long admitted, long completed, long rejected) {
+    }
+}
@@ -0,0 +1,611 @@
+package com.monghit.java25.features;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * Caché acotada por peso con admisión estilo W-TinyLFU, TTL por entrada y refresco
+ * anticipado en virtual threads.
+ *
+ * Estructura (como Caffeine, simplificada):
+ * - Ventana LRU (1 % del peso): toda entrada nueva entra aquí, lo que da una
+ *   oportunidad a las ráfagas recientes.
+ * - Región principal SLRU: probation (20 %) y protected (80 %). Un acierto en
+ *   probation promociona la entrada a protected.
+ * - Al desbordar la región principal, la víctima (cabeza de probation) compite con los
+ *   candidatos que acaban de salir de la ventana: sobrevive la de mayor frecuencia
+ *   estimada en un count-min sketch de 4 bits (una muestra por get()) que se
+ *   envejece a la mitad cada 10 muestras por contador. Así un barrido de claves de un
+ *   solo uso no expulsa a las claves calientes.
+ *
+ * El peso de cada entrada lo da el weigher (p. ej. bytes aproximados); la suma nunca
+ * supera maxWeight. Cada entrada guarda su propio instante de expiración; pasado
+ * refreshAfter, el siguiente acierto devuelve el valor actual y lanza una recarga en
+ * un virtual thread (refresh-ahead), de modo que las claves calientes no llegan a
+ * expirar. Las cargas se hacen fuera del lock.
+ *
+ * Las lecturas no toman el lock: buscan en un ConcurrentHashMap y anotan el acceso en
+ * un buffer circular acotado. Las listas SLRU y el sketch solo se tocan bajo un único
+ * lock, que aplica los accesos pendientes antes de cada escritura o cuando el buffer
+ * pasa de la mitad (con tryLock, sin bloquear al lector). Con el buffer lleno la
+ * muestra se descarta: la política es aproximada, como en Caffeine.
+ */
+public final class TinyLfuCache<K, V> {
+
+    private static final int WINDOW_PERCENT = 1;
+    private static final int PROTECTED_PERCENT = 80;
+    private static final int READ_BUFFER_SIZE = 128;
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+    private static final int DRAIN_THRESHOLD = READ_BUFFER_SIZE / 2;
+
+    private final String name;
+    private final Settings settings;
+    private final ToIntBiFunction<? super K, ? super V> weigher;
+    private final LongSupplier ticker;
+    private final Executor refreshExecutor;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<K, Node<K, V>> data = new ConcurrentHashMap<>();
+    // Accesos pendientes: Node en los aciertos, la clave en los fallos
+    private final AtomicReferenceArray<Object> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+    private final AtomicLong readBufferWrites = new AtomicLong();
+    // Solo se escribe bajo el lock
+    private volatile long readBufferReads;
+    private final Segment<K, V> window = new Segment<>();
+    private final Segment<K, V> probation = new Segment<>();
+    private final Segment<K, V> protectedSegment = new Segment<>();
+    private final FrequencySketch sketch;
+    private final long windowMaxWeight;
+    private final long mainMaxWeight;
+    private final long protectedMaxWeight;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+
+    public TinyLfuCache(String name, Settings settings, ToIntBiFunction<? super K, ? super V> weigher) {
+        this(name, settings, weigher, System::nanoTime);
+    }
+
+    TinyLfuCache(String name, Settings settings, ToIntBiFunction<? super K, ? super V> weigher, LongSupplier ticker) {
+        this(name, settings, weigher, ticker,
+                refresh -> Thread.ofVirtual().name("cache-refresh-" + name).start(refresh));
+    }
+
+    /**
+     * refreshExecutor ejecuta las recargas anticipadas; por defecto, un virtual thread
+     * por recarga.
+     */
+    TinyLfuCache(String name, Settings settings, ToIntBiFunction<? super K, ? super V> weigher, LongSupplier ticker,
+                 Executor refreshExecutor) {
+        this.name = name;
+        this.settings = settings;
+        this.weigher = weigher;
+        this.ticker = ticker;
+        this.refreshExecutor = refreshExecutor;
+        this.sketch = new FrequencySketch(settings.expectedEntries());
+        this.windowMaxWeight = Math.max(1, settings.maxWeight() * WINDOW_PERCENT / 100);
+        this.mainMaxWeight = settings.maxWeight() - windowMaxWeight;
+        this.protectedMaxWeight = mainMaxWeight * PROTECTED_PERCENT / 100;
+    }
+
+    /**
+     * Valor de key si está en caché y no ha expirado; en otro caso lo carga con loader
+     * (fuera del lock) y lo guarda con el TTL por defecto. Las cargas concurrentes de la
+     * misma clave no se deduplican aquí: para eso, loader puede pasar por SingleFlight.
+     */
+    public V get(K key, Callable<? extends V> loader) throws Exception {
+        Node<K, V> hit = lookup(key);
+        if (hit != null) {
+            hits.increment();
+            V value = hit.value;
+            if (ticker.getAsLong() - hit.refreshAt >= 0 && hit.claimRefresh()) {
+                refreshAsync(hit, loader);
+            }
+            return value;
+        }
+        misses.increment();
+        V value;
+        try {
+            value = loader.call();
+        } catch (Exception e) {
+            loadFailures.increment();
+            throw e;
+        }
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * Valor en caché sin cargar ni contar como acierto o fallo; null si no está.
+     */
+    public V getIfPresent(K key) {
+        Node<K, V> node = data.get(key);
+        return node != null && !isExpired(node, ticker.getAsLong()) ? node.value : null;
+    }
+
+    public void put(K key, V value) {
+        put(key, value, settings.ttl());
+    }
+
+    /**
+     * Inserta o reemplaza key con su propio TTL; el refresco anticipado se programa en
+     * la misma proporción refreshAfter / ttl de la configuración.
+     */
+    public void put(K key, V value, Duration ttl) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(value, "value");
+        int weight = weigher.applyAsInt(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("El peso no puede ser negativo: " + weight);
+        }
+        long now = ticker.getAsLong();
+        long ttlNanos = ttl.toNanos();
+        long refreshNanos = Math.round(ttlNanos * settings.refreshRatio());
+
+        lock.lock();
+        try {
+            drainReadBuffer();
+            Node<K, V> node = data.get(key);
+            if (weight > settings.maxWeight()) {
+                // No cabe nunca: se descarta la versión anterior para no servir datos viejos
+                if (node != null) {
+                    remove(node);
+                }
+                return;
+            }
+            if (node == null) {
+                // Se publica en el mapa ya inicializado: las lecturas no toman el lock
+                node = new Node<>(key);
+                assign(node, value, now + ttlNanos, now + refreshNanos);
+                window.addLast(node, weight);
+                data.put(key, node);
+            } else {
+                node.segment.reweigh(node, weight);
+                node.segment.moveToLast(node);
+                assign(node, value, now + ttlNanos, now + refreshNanos);
+            }
+            evict();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(K key) {
+        lock.lock();
+        try {
+            drainReadBuffer();
+            Node<K, V> node = data.get(key);
+            if (node != null) {
+                remove(node);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public CacheStats stats() {
+        lock.lock();
+        int entries;
+        long weight;
+        try {
+            entries = data.size();
+            weight = window.weight + probation.weight + protectedSegment.weight;
+        } finally {
+            lock.unlock();
+        }
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+        return new CacheStats(hitCount, missCount, requests == 0 ? 0.0 : (double) hitCount / requests,
+                evictions.sum(), expirations.sum(), refreshes.sum(), loadFailures.sum(),
+                entries, weight, settings.maxWeight());
+    }
+
+    public String name() {
+        return name;
+    }
+
+    private Node<K, V> lookup(K key) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            recordRead(key);
+            return null;
+        }
+        if (isExpired(node, ticker.getAsLong())) {
+            recordRead(key);
+            expire(node);
+            return null;
+        }
+        recordRead(node);
+        return node;
+    }
+
+    private void expire(Node<K, V> node) {
+        lock.lock();
+        try {
+            drainReadBuffer();
+            // Otro hilo pudo reemplazarla o quitarla entre la lectura y el lock
+            if (data.get(node.key) == node && isExpired(node, ticker.getAsLong())) {
+                remove(node);
+                expirations.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Anota un acceso sin tomar el lock: una muestra por acceso (acierto o fallo); put()
+     * y las recargas no cuentan. Un escritor reserva su hueco con CAS sobre
+     * readBufferWrites y luego lo publica; si el buffer está lleno el acceso se pierde.
+     */
+    private void recordRead(Object access) {
+        long pending;
+        while (true) {
+            long tail = readBufferWrites.get();
+            pending = tail - readBufferReads;
+            if (pending >= READ_BUFFER_SIZE) {
+                break;
+            }
+            if (readBufferWrites.compareAndSet(tail, tail + 1)) {
+                readBuffer.lazySet((int) (tail & READ_BUFFER_MASK), access);
+                pending++;
+                break;
+            }
+        }
+        if (pending >= DRAIN_THRESHOLD && lock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Aplica al sketch y a las listas los accesos publicados, en orden. Se para en el
+     * primer hueco reservado pero aún sin publicar. Requiere el lock.
+     */
+    private void drainReadBuffer() {
+        long head = readBufferReads;
+        long tail = readBufferWrites.get();
+        for (; head < tail; head++) {
+            int index = (int) (head & READ_BUFFER_MASK);
+            Object access = readBuffer.get(index);
+            if (access == null) {
+                break;
+            }
+            readBuffer.set(index, null);
+            applyRead(access);
+        }
+        readBufferReads = head;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void applyRead(Object access) {
+        if (access instanceof Node<?, ?> hit) {
+            Node<K, V> node = (Node<K, V>) hit;
+            sketch.increment(node.key);
+            // La entrada pudo salir de la caché mientras el acceso esperaba en el buffer
+            if (data.get(node.key) == node) {
+                onHit(node);
+            }
+        } else {
+            sketch.increment(access);
+        }
+    }
+
+    private void onHit(Node<K, V> node) {
+        if (node.segment == probation) {
+            probation.remove(node);
+            protectedSegment.addLast(node, node.weight);
+            // Si protected se pasa de su cuota, su entrada más fría vuelve a probation
+            while (protectedSegment.weight > protectedMaxWeight && protectedSegment.head != node) {
+                Node<K, V> demoted = protectedSegment.head;
+                protectedSegment.remove(demoted);
+                probation.addLast(demoted, demoted.weight);
+            }
+        } else {
+            node.segment.moveToLast(node);
+        }
+    }
+
+    private void refreshAsync(Node<K, V> node, Callable<? extends V> loader) {
+        refreshExecutor.execute(() -> {
+            try {
+                if (replace(node, loader.call())) {
+                    refreshes.increment();
+                }
+            } catch (Exception e) {
+                // Se sigue sirviendo el valor actual hasta que expire
+                loadFailures.increment();
+                node.refreshing = false;
+            }
+        });
+    }
+
+    /**
+     * Instala el valor recargado con el TTL por defecto solo si node sigue siendo la
+     * entrada viva de su clave: una clave invalidada, expulsada o reemplazada mientras
+     * se recargaba no se resucita.
+     */
+    private boolean replace(Node<K, V> node, V value) {
+        Objects.requireNonNull(value, "value");
+        int weight = weigher.applyAsInt(node.key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("El peso no puede ser negativo: " + weight);
+        }
+        long now = ticker.getAsLong();
+        long ttlNanos = settings.ttl().toNanos();
+        long refreshNanos = settings.refreshAfter().toNanos();
+
+        lock.lock();
+        try {
+            drainReadBuffer();
+            if (data.get(node.key) != node) {
+                return false;
+            }
+            if (weight > settings.maxWeight()) {
+                remove(node);
+                return false;
+            }
+            node.segment.reweigh(node, weight);
+            node.segment.moveToLast(node);
+            assign(node, value, now + ttlNanos, now + refreshNanos);
+            evict();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void assign(Node<K, V> node, V value, long expiresAt, long refreshAt) {
+        node.value = value;
+        node.expiresAt = expiresAt;
+        node.refreshAt = refreshAt;
+        node.refreshing = false;
+    }
+
+    /**
+     * Los nodos que salen de la ventana se añaden al final de probation en orden; cada
+     * uno compite con la víctima de turno (cabeza de probation, o de protected si
+     * probation está vacía). El candidato que pierde se expulsa y compite el siguiente.
+     */
+    private void evict() {
+        Node<K, V> candidate = null;
+        while (window.weight > windowMaxWeight) {
+            Node<K, V> moved = window.head;
+            window.remove(moved);
+            probation.addLast(moved, moved.weight);
+            if (candidate == null) {
+                candidate = moved;
+            }
+        }
+        while (probation.weight + protectedSegment.weight > mainMaxWeight) {
+            Node<K, V> victim = probation.head != null ? probation.head : protectedSegment.head;
+            if (candidate == null) {
+                remove(victim);
+            } else if (candidate == victim) {
+                // Sin víctima más antigua que el propio candidato
+                candidate = candidate.next;
+                remove(victim);
+            } else if (sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                remove(victim);
+            } else {
+                Node<K, V> loser = candidate;
+                candidate = candidate.next;
+                remove(loser);
+            }
+            evictions.increment();
+        }
+    }
+
+    private boolean isExpired(Node<K, V> node, long now) {
+        return now - node.expiresAt >= 0;
+    }
+
+    private void remove(Node<K, V> node) {
+        node.segment.remove(node);
+        data.remove(node.key);
+    }
+
+    /**
+     * maxWeight: peso total máximo (p. ej. bytes). expectedEntries: dimensiona el
+     * sketch de frecuencias. ttl: expiración por defecto. refreshAfter: edad a partir de
+     * la cual un acierto dispara la recarga anticipada (debe ser menor que ttl).
+     */
+    public record Settings(long maxWeight, int expectedEntries, Duration ttl, Duration refreshAfter) {
+
+        public Settings {
+            if (maxWeight < 2 || expectedEntries < 1) {
+                throw new IllegalArgumentException("maxWeight debe ser >= 2 y expectedEntries positivo");
+            }
+            if (!ttl.isPositive() || refreshAfter.isNegative() || refreshAfter.compareTo(ttl) > 0) {
+                throw new IllegalArgumentException("Debe cumplirse 0 <= refreshAfter <= ttl y ttl > 0");
+            }
+        }
+
+        double refreshRatio() {
+            return (double) refreshAfter.toNanos() / ttl.toNanos();
+        }
+    }
+
+    /**
+     * Estadísticas acumuladas y ocupación actual (entries, weight) frente a maxWeight.
+     */
+    public record CacheStats(long hits, long misses, double hitRatio, long evictions, long expirations,
+                             long refreshes, long loadFailures, int entries, long weight, long maxWeight) {
+    }
+
+    private static final class Node<K, V> {
+
+        final K key;
+        // value, refreshAt y expiresAt se escriben bajo el lock y se leen también fuera de él
+        volatile V value;
+        volatile long refreshAt;
+        volatile long expiresAt;
+        int weight;
+        volatile boolean refreshing;
+        Segment<K, V> segment;
+        Node<K, V> prev;
+        Node<K, V> next;
+
+        Node(K key) {
+            this.key = key;
+        }
+
+        synchronized boolean claimRefresh() {
+            if (refreshing) {
+                return false;
+            }
+            refreshing = true;
+            return true;
+        }
+    }
+
+    /**
+     * Lista doblemente enlazada intrusiva en orden LRU (head = la más fría) con su peso.
+     */
+    private static final class Segment<K, V> {
+
+        Node<K, V> head;
+        Node<K, V> tail;
+        long weight;
+
+        void addLast(Node<K, V> node, int nodeWeight) {
+            node.segment = this;
+            node.weight = nodeWeight;
+            node.prev = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            weight += nodeWeight;
+        }
+
+        void remove(Node<K, V> node) {
+            if (node.prev == null) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            weight -= node.weight;
+        }
+
+        void moveToLast(Node<K, V> node) {
+            if (tail != node) {
+                int nodeWeight = node.weight;
+                remove(node);
+                addLast(node, nodeWeight);
+            }
+        }
+
+        void reweigh(Node<K, V> node, int newWeight) {
+            weight += newWeight - node.weight;
+            node.weight = newWeight;
+        }
+    }
+
+    /**
+     * Count-min sketch con 4 filas de contadores de 4 bits (saturados en 15), dos por
+     * byte: cada fila ocupa width / 2 bytes, p. ej. 64 KB en total para 20 000 entradas
+     * esperadas (width = 32 768). Cuando las muestras llegan a 10 veces el ancho, todos
+     * los contadores se dividen entre dos para que la popularidad antigua vaya
+     * perdiendo peso.
+     */
+    static final class FrequencySketch {
+
+        private static final long[] SEEDS = {
+                0x97cb3127L, 0xab50b2a3L, 0x3c6ef372L, 0xbb67ae85L};
+        private static final int MAX_COUNT = 15;
+
+        private final byte[][] counters;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int expectedEntries) {
+            int width = Integer.highestOneBit(Math.max(16, Math.min(expectedEntries, 1 << 24)) - 1) << 1;
+            this.counters = new byte[SEEDS.length][width / 2];
+            this.mask = width - 1;
+            this.sampleSize = 10 * width;
+        }
+
+        void increment(Object key) {
+            int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int row = 0; row < SEEDS.length; row++) {
+                int index = index(hash, row);
+                int shift = (index & 1) << 2;
+                int packed = counters[row][index >>> 1] & 0xFF;
+                if (((packed >>> shift) & MAX_COUNT) < MAX_COUNT) {
+                    counters[row][index >>> 1] = (byte) (packed + (1 << shift));
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int frequency = MAX_COUNT;
+            for (int row = 0; row < SEEDS.length; row++) {
+                int index = index(hash, row);
+                int packed = counters[row][index >>> 1] & 0xFF;
+                frequency = Math.min(frequency, (packed >>> ((index & 1) << 2)) & MAX_COUNT);
+            }
+            return frequency;
+        }
+
+        /**
+         * Divide entre dos los dos contadores de cada byte a la vez: el bit que baja del
+         * contador alto al bajo se descarta con la máscara 0x77.
+         */
+        private void reset() {
+            for (byte[] row : counters) {
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = (byte) (((row[i] & 0xFF) >>> 1) & 0x77);
+                }
+            }
+            additions >>= 1;
+        }
+
+        private int index(int hash, int row) {
+            long h = (hash + SEEDS[row]) * SEEDS[row];
+            return (int) (h ^ (h >>> 32)) & mask;
+        }
+
+        private static int spread(int hash) {
+            hash ^= hash >>> 17;
+            hash *= 0xed5eb4b5;
+            hash ^= hash >>> 15;
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.monghit.java25.features;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import static com.monghit.java25.features.PrimitiveClassifier.*;
+
+/**
+ * Clasificación SIMD con la Vector API (jdk.incubator.vector).
+ *
+ * Cada iteración carga un vector completo, obtiene las máscaras de cada bucket con
+ * compare(), cuenta los elementos con trueCount() y compone los códigos con blend().
+ * Los códigos se estrechan a byte con una conversión I2B/L2B (parte 0) y se guardan
+ * con un store enmascarado a los primeros lanes. La cola que no llena un vector se
+ * clasifica con PrimitiveClassifier.
+ *
+ * Solo se debe cargar si el módulo está presente: el acceso pasa por BulkValidator.
+ */
+final class VectorizedClassifier {
+
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Byte> INT_CODES = INTS.withLanes(byte.class);
+    private static final VectorSpecies<Byte> LONG_CODES = LONGS.withLanes(byte.class);
+    private static final VectorMask<Byte> INT_CODE_LANES = INT_CODES.indexInRange(0, INTS.length());
+    private static final VectorMask<Byte> LONG_CODE_LANES = LONG_CODES.indexInRange(0, LONGS.length());
+
+    private VectorizedClassifier() {
+    }
+
+    static void classify(int[] values, byte[] codes, long[] counts) {
+        checkBuffers(values.length, codes, counts);
+        int lanes = INTS.length();
+        int upper = INTS.loopBound(values.length);
+
+        long negatives = 0;
+        long zeros = 0;
+        long large = 0;
+        int i = 0;
+        for (; i < upper; i += lanes) {
+            IntVector v = IntVector.fromArray(INTS, values, i);
+            VectorMask<Integer> negative = v.compare(VectorOperators.LT, 0);
+            VectorMask<Integer> zero = v.compare(VectorOperators.EQ, 0);
+            VectorMask<Integer> largePositive = v.compare(VectorOperators.GT, SMALL_LIMIT);
+
+            negatives += negative.trueCount();
+            zeros += zero.trueCount();
+            large += largePositive.trueCount();
+
+            IntVector code = IntVector.broadcast(INTS, SMALL_POSITIVE)
+                    .blend(NEGATIVE, negative)
+                    .blend(ZERO, zero)
+                    .blend(LARGE_POSITIVE, largePositive);
+            ((ByteVector) code.convert(VectorOperators.I2B, 0)).intoArray(codes, i, INT_CODE_LANES);
+        }
+        counts[NEGATIVE] += negatives;
+        counts[ZERO] += zeros;
+        counts[LARGE_POSITIVE] += large;
+        counts[SMALL_POSITIVE] += upper - negatives - zeros - large;
+
+        for (; i < values.length; i++) {
+            byte code = PrimitiveClassifier.classify(values[i]);
+            codes[i] = code;
+            counts[code]++;
+        }
+    }
+
+    static void classify(long[] values, byte[] codes, long[] counts) {
+        checkBuffers(values.length, codes, counts);
+        int lanes = LONGS.length();
+        int upper = LONGS.loopBound(values.length);
+
+        long negatives = 0;
+        long zeros = 0;
+        long large = 0;
+        long notInt = 0;
+        int i = 0;
+        for (; i < upper; i += lanes) {
+            LongVector v = LongVector.fromArray(LONGS, values, i);
+            VectorMask<Long> outOfRange = v.compare(VectorOperators.LT, Integer.MIN_VALUE)
+                    .or(v.compare(VectorOperators.GT, Integer.MAX_VALUE));
+            VectorMask<Long> negative = v.compare(VectorOperators.LT, 0L).andNot(outOfRange);
+            VectorMask<Long> zero = v.compare(VectorOperators.EQ, 0L);
+            VectorMask<Long> largePositive = v.compare(VectorOperators.GT, SMALL_LIMIT).andNot(outOfRange);
+
+            notInt += outOfRange.trueCount();
+            negatives += negative.trueCount();
+            zeros += zero.trueCount();
+            large += largePositive.trueCount();
+
+            LongVector code = LongVector.broadcast(LONGS, SMALL_POSITIVE)
+                    .blend(NEGATIVE, negative)
+                    .blend(ZERO, zero)
+                    .blend(LARGE_POSITIVE, largePositive)
+                    .blend(NOT_AN_INT, outOfRange);
+            ((ByteVector) code.convert(VectorOperators.L2B, 0)).intoArray(codes, i, LONG_CODE_LANES);
+        }
+        counts[NEGATIVE] += negatives;
+        counts[ZERO] += zeros;
+        counts[LARGE_POSITIVE] += large;
+        counts[NOT_AN_INT] += notInt;
+        counts[SMALL_POSITIVE] += upper - negatives - zeros - large - notInt;
+
+        for (; i < values.length; i++) {
+            byte code = PrimitiveClassifier.classify(values[i]);
+            codes[i] = code;
+            counts[code]++;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.monghit.java25.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Profiling continuo dentro del proceso con la Streaming API de JFR.
+ *
+ * Al arrancar la aplicación abre un RecordingStream, se suscribe a eventos de la JVM
+ * (pausas de GC, muestras de asignación, pinning de virtual threads, lecturas de
+ * socket) y a los eventos propios de la aplicación, y mantiene un RollingHistogram
+ * por métrica. No hace falta adjuntar herramientas externas: los histogramas se
+ * sirven desde /api/java25/metrics/jfr.
+ *
+ * Es el único RecordingStream del proceso: VirtualThreadPinningDetector recibe los
+ * jdk.VirtualThreadPinned de este mismo stream (addPinningListener), que se abre
+ * aunque las métricas estén deshabilitadas si hay algún listener registrado.
+ */
+@Service
+public class JfrMetricsService implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(JfrMetricsService.class);
+
+    private static final int WINDOW_SLOTS = 6;
+    private static final Duration PINNED_THRESHOLD = Duration.ofMillis(1);
+
+    private final boolean enabled;
+    private final long slotMillis;
+    private final Map<String, RollingHistogram> histograms = new LinkedHashMap<>();
+    private final List<Consumer<RecordedEvent>> pinningListeners = new CopyOnWriteArrayList<>();
+    private volatile RecordingStream stream;
+
+    public JfrMetricsService(
+            @Value("${java25.jfr.streaming.enabled:true}") boolean enabled,
+            @Value("${java25.jfr.streaming.window:60s}") Duration window) {
+        this.enabled = enabled;
+        this.slotMillis = Math.max(1, window.toMillis() / WINDOW_SLOTS);
+        for (Metric metric : Metric.values()) {
+            histograms.put(metric.key, new RollingHistogram(WINDOW_SLOTS, slotMillis));
+        }
+    }
+
+    /**
+     * Registra un consumidor de los eventos jdk.VirtualThreadPinned (con pila, a partir
+     * de 1 ms). Debe llamarse antes de start(), p. ej. desde el constructor del bean.
+     * El stream reutiliza los eventos: el listener no debe conservarlos tras volver.
+     */
+    public void addPinningListener(Consumer<RecordedEvent> listener) {
+        pinningListeners.add(listener);
+    }
+
+    @Override
+    public void start() {
+        if (stream != null || (!enabled && pinningListeners.isEmpty())) {
+            return;
+        }
+        try {
+            RecordingStream rs = new RecordingStream();
+            rs.setReuse(true);
+            rs.setOrdered(false);
+
+            // Un solo jdk.VirtualThreadPinned para el histograma y los listeners
+            rs.enable("jdk.VirtualThreadPinned").withThreshold(PINNED_THRESHOLD).withStackTrace();
+            RollingHistogram pinned = histograms.get(Metric.VIRTUAL_THREAD_PINNED.key);
+            rs.onEvent("jdk.VirtualThreadPinned", event -> {
+                if (enabled) {
+                    pinned.record(micros(event));
+                }
+                pinningListeners.forEach(listener -> listener.accept(event));
+            });
+
+            if (enabled) {
+                subscribeMetrics(rs);
+            }
+
+            rs.startAsync();
+            stream = rs;
+            log.info("JFR streaming iniciado (ventana de {} ms)", slotMillis * WINDOW_SLOTS);
+        } catch (RuntimeException e) {
+            // JFR puede no estar disponible (JVM sin soporte o deshabilitado): se sigue sin métricas
+            log.warn("No se pudo iniciar el JFR streaming: {}", e.getMessage());
+        }
+    }
+
+    private void subscribeMetrics(RecordingStream rs) {
+        rs.enable("jdk.GarbageCollection");
+        subscribe(rs, "jdk.GarbageCollection", Metric.GC_PAUSE,
+                event -> event.getDuration("sumOfPauses").toNanos() / 1_000);
+
+        rs.enable("jdk.ObjectAllocationSample").with("throttle", "150/s");
+        subscribe(rs, "jdk.ObjectAllocationSample", Metric.ALLOCATION,
+                event -> event.getLong("weight"));
+
+        rs.enable("jdk.SocketRead").withThreshold(Duration.ofMillis(1));
+        subscribe(rs, "jdk.SocketRead", Metric.SOCKET_READ, JfrMetricsService::micros);
+
+        rs.enable(StableValueInitializedEvent.class);
+        subscribe(rs, "com.monghit.java25.StableValueInitialized", Metric.STABLE_VALUE_INIT,
+                JfrMetricsService::micros);
+
+        rs.enable(ScopedContextEnteredEvent.class);
+        subscribe(rs, "com.monghit.java25.ScopedContextEntered", Metric.SCOPED_CONTEXT,
+                JfrMetricsService::micros);
+
+        rs.enable(SubtaskForkedEvent.class);
+        subscribe(rs, "com.monghit.java25.SubtaskForked", Metric.SUBTASK, JfrMetricsService::micros);
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream rs = stream;
+        stream = null;
+        if (rs != null) {
+            rs.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    /**
+     * Instantánea de todos los histogramas de la ventana actual.
+     */
+    public JfrMetrics snapshot() {
+        Map<String, RollingHistogram.HistogramSnapshot> snapshots = new LinkedHashMap<>();
+        histograms.forEach((name, histogram) -> snapshots.put(name, histogram.snapshot()));
+        return new JfrMetrics(enabled && isRunning(), slotMillis * WINDOW_SLOTS / 1_000, snapshots);
+    }
+
+    private void subscribe(RecordingStream rs, String eventName, Metric metric,
+                           ToLongFunction<RecordedEvent> value) {
+        RollingHistogram histogram = histograms.get(metric.key);
+        rs.onEvent(eventName, event -> histogram.record(value.applyAsLong(event)));
+    }
+
+    private static long micros(RecordedEvent event) {
+        return event.getDuration().toNanos() / 1_000;
+    }
+
+    /**
+     * Métricas expuestas. Las duraciones están en microsegundos y las asignaciones en bytes.
+     */
+    enum Metric {
+        GC_PAUSE("gc.pause.us"),
+        ALLOCATION("allocation.sample.bytes"),
+        VIRTUAL_THREAD_PINNED("virtual-thread.pinned.us"),
+        SOCKET_READ("socket.read.us"),
+        STABLE_VALUE_INIT("app.stable-value.init.us"),
+        SCOPED_CONTEXT("app.scoped-context.us"),
+        SUBTASK("app.subtask.us");
+
+        final String key;
+
+        Metric(String key) {
+            this.key = key;
+        }
+    }
+
+    public record JfrMetrics(
+            boolean streaming,
+            long windowSeconds,
+            Map<String, RollingHistogram.HistogramSnapshot> histograms) {}
+}
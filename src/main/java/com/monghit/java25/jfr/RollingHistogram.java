@@ -0,0 +1,123 @@
+package com.monghit.java25.jfr;
+
+import java.util.Arrays;
+
+/**
+ * Histograma en memoria sobre una ventana deslizante.
+ *
+ * Los valores se agrupan en buckets logarítmicos (potencias de 2), así que el
+ * tamaño es fijo (64 buckets por slot) independientemente del número de muestras.
+ * La ventana se divide en slots de igual duración que se reciclan al avanzar el
+ * tiempo; los percentiles se estiman con el límite superior del bucket.
+ */
+public final class RollingHistogram {
+
+    private static final int BUCKETS = 64;
+
+    private final long slotMillis;
+    private final long[][] buckets;
+    private final long[] slotEpochs;
+    private final long[] counts;
+    private final long[] sums;
+    private final long[] maxima;
+
+    public RollingHistogram(int slots, long slotMillis) {
+        if (slots <= 0 || slotMillis <= 0) {
+            throw new IllegalArgumentException("slots y slotMillis deben ser positivos");
+        }
+        this.slotMillis = slotMillis;
+        this.buckets = new long[slots][BUCKETS];
+        this.slotEpochs = new long[slots];
+        this.counts = new long[slots];
+        this.sums = new long[slots];
+        this.maxima = new long[slots];
+    }
+
+    public void record(long value) {
+        record(value, System.currentTimeMillis());
+    }
+
+    synchronized void record(long value, long nowMillis) {
+        long sample = Math.max(0, value);
+        int slot = currentSlot(nowMillis);
+        buckets[slot][bucketOf(sample)]++;
+        counts[slot]++;
+        sums[slot] += sample;
+        maxima[slot] = Math.max(maxima[slot], sample);
+    }
+
+    public HistogramSnapshot snapshot() {
+        return snapshot(System.currentTimeMillis());
+    }
+
+    synchronized HistogramSnapshot snapshot(long nowMillis) {
+        long epoch = nowMillis / slotMillis;
+        long oldestEpoch = epoch - slotEpochs.length + 1;
+
+        long[] merged = new long[BUCKETS];
+        long count = 0;
+        long sum = 0;
+        long max = 0;
+        for (int slot = 0; slot < slotEpochs.length; slot++) {
+            if (slotEpochs[slot] < oldestEpoch || slotEpochs[slot] > epoch || counts[slot] == 0) {
+                continue;
+            }
+            for (int b = 0; b < BUCKETS; b++) {
+                merged[b] += buckets[slot][b];
+            }
+            count += counts[slot];
+            sum += sums[slot];
+            max = Math.max(max, maxima[slot]);
+        }
+
+        if (count == 0) {
+            return HistogramSnapshot.EMPTY;
+        }
+        return new HistogramSnapshot(
+                count,
+                (double) sum / count,
+                percentile(merged, count, 0.50, max),
+                percentile(merged, count, 0.90, max),
+                percentile(merged, count, 0.99, max),
+                max
+        );
+    }
+
+    private int currentSlot(long nowMillis) {
+        long epoch = nowMillis / slotMillis;
+        int slot = (int) (epoch % slotEpochs.length);
+        if (slotEpochs[slot] != epoch) {
+            // El slot pertenece a una vuelta anterior de la ventana: se recicla
+            Arrays.fill(buckets[slot], 0);
+            counts[slot] = 0;
+            sums[slot] = 0;
+            maxima[slot] = 0;
+            slotEpochs[slot] = epoch;
+        }
+        return slot;
+    }
+
+    private static int bucketOf(long value) {
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(value));
+    }
+
+    private static long percentile(long[] merged, long count, double quantile, long max) {
+        long rank = (long) Math.ceil(quantile * count);
+        long seen = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            seen += merged[b];
+            if (seen >= rank) {
+                long upperBound = b == 0 ? 0 : (1L << b) - 1;
+                return Math.min(upperBound, max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Resumen de la ventana: número de muestras, media, percentiles estimados y máximo.
+     */
+    public record HistogramSnapshot(long count, double mean, long p50, long p90, long p99, long max) {
+        public static final HistogramSnapshot EMPTY = new HistogramSnapshot(0, 0, 0, 0, 0, 0);
+    }
+}
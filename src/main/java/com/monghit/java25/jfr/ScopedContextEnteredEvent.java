@@ -0,0 +1,24 @@
+package com.monghit.java25.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Entrada en un scope con scoped values enlazados. Cuando envuelve un
+ * ScopedValue.where(...).call(...) la duración cubre todo el scope.
+ */
+@Name("com.monghit.java25.ScopedContextEntered")
+@Label("Scoped Context Entered")
+@Description("Se ha ejecutado código con un contexto de scoped values enlazado")
+@Category({"Java 25 Demo", "Scoped Values"})
+@StackTrace(false)
+public final class ScopedContextEnteredEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("User ID")
+    public String userId;
+
+    @Label("Tenant ID")
+    public String tenantId;
+}
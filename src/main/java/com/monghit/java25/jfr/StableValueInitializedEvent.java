@@ -0,0 +1,21 @@
+package com.monghit.java25.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Inicialización de un StableValue: la duración del evento es el tiempo que tardó
+ * la función de inicialización (solo se emite la vez que realmente se establece).
+ */
+@Name("com.monghit.java25.StableValueInitialized")
+@Label("StableValue Initialized")
+@Description("Un StableValue se ha establecido por primera vez")
+@Category({"Java 25 Demo", "Stable Values"})
+@StackTrace(false)
+public final class StableValueInitializedEvent extends Event {
+
+    @Label("Stable Value")
+    public String name;
+
+    @Label("Key")
+    public String key;
+}
@@ -0,0 +1,21 @@
+package com.monghit.java25.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Ejecución de una subtarea forkeada en un StructuredTaskScope. La duración es el
+ * tiempo de la subtarea en su virtual thread.
+ */
+@Name("com.monghit.java25.SubtaskForked")
+@Label("Subtask Forked")
+@Description("Subtarea ejecutada dentro de un StructuredTaskScope")
+@Category({"Java 25 Demo", "Structured Concurrency"})
+@StackTrace(false)
+public final class SubtaskForkedEvent extends Event {
+
+    @Label("Task")
+    public String task;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
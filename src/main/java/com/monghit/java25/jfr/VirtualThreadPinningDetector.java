@@ -0,0 +1,122 @@
+package com.monghit.java25.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Detector de pinning de virtual threads.
+ *
+ * Con las peticiones ejecutándose en virtual threads, un bloqueo mientras el
+ * virtual thread está anclado a su carrier (código nativo, class initializers...)
+ * ocupa un carrier del ForkJoinPool y limita la concurrencia. Este detector escucha
+ * jdk.VirtualThreadPinned por encima de un umbral, registra un warning con la pila
+ * la primera vez que aparece cada punto de pinning y cuenta las ocurrencias por sitio.
+ *
+ * Los eventos llegan del RecordingStream de JfrMetricsService (no se abre un segundo
+ * stream). El sitio es el primer frame de la aplicación: los frames de la cima de la
+ * pila son siempre del JDK (Object.wait, Thread.sleep, LockSupport.park...).
+ */
+@Service
+public class VirtualThreadPinningDetector {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningDetector.class);
+
+    private static final int LOGGED_FRAMES = 8;
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+
+    private final boolean enabled;
+    private final Duration threshold;
+    private final Map<String, LongAdder> pinsBySite = new ConcurrentHashMap<>();
+    private final LongAdder totalPins = new LongAdder();
+    private final JfrMetricsService jfrMetricsService;
+
+    public VirtualThreadPinningDetector(
+            JfrMetricsService jfrMetricsService,
+            @Value("${java25.virtual-threads.pinning-detector.enabled:true}") boolean enabled,
+            @Value("${java25.virtual-threads.pinning-detector.threshold:20ms}") Duration threshold) {
+        this.jfrMetricsService = jfrMetricsService;
+        this.enabled = enabled;
+        this.threshold = threshold;
+        if (enabled) {
+            jfrMetricsService.addPinningListener(this::onPinned);
+        }
+    }
+
+    public boolean isRunning() {
+        return enabled && jfrMetricsService.isRunning();
+    }
+
+    /**
+     * Ocurrencias de pinning por sitio (primer frame de la aplicación).
+     */
+    public PinningReport report() {
+        Map<String, Long> bySite = new TreeMap<>();
+        pinsBySite.forEach((site, count) -> bySite.put(site, count.sum()));
+        return new PinningReport(isRunning(), threshold.toMillis(), totalPins.sum(), bySite);
+    }
+
+    void onPinned(RecordedEvent event) {
+        // El stream compartido registra desde 1 ms; el umbral del detector se aplica aquí
+        if (event.getDuration().compareTo(threshold) < 0) {
+            return;
+        }
+        totalPins.increment();
+        String site = siteOf(event.getStackTrace());
+        LongAdder count = pinsBySite.computeIfAbsent(site, key -> {
+            log.warn("Virtual thread anclado {} ms en {}{}",
+                    event.getDuration().toMillis(), key, formatStack(event.getStackTrace()));
+            return new LongAdder();
+        });
+        count.increment();
+    }
+
+    private static String siteOf(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "desconocido";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        RecordedFrame site = frames.stream()
+                .filter(frame -> frame.getMethod() != null && !isJdkType(frame.getMethod().getType().getName()))
+                .findFirst()
+                .orElse(frames.getFirst());
+        if (site.getMethod() == null) {
+            return "desconocido";
+        }
+        return site.getMethod().getType().getName() + "." + site.getMethod().getName()
+                + ":" + site.getLineNumber();
+    }
+
+    /**
+     * Frames que no identifican el sitio de pinning: los del JDK están en la cima de
+     * cualquier pila anclada y agruparían todos los pins bajo el mismo sitio.
+     */
+    static boolean isJdkType(String typeName) {
+        return JDK_PACKAGES.stream().anyMatch(typeName::startsWith);
+    }
+
+    private static String formatStack(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "";
+        }
+        StringBuilder stack = new StringBuilder();
+        stackTrace.getFrames().stream().limit(LOGGED_FRAMES).forEach(frame -> stack
+                .append(System.lineSeparator()).append("\tat ")
+                .append(frame.getMethod().getType().getName()).append('.')
+                .append(frame.getMethod().getName()).append(':').append(frame.getLineNumber()));
+        return stack.toString();
+    }
+
+    public record PinningReport(boolean running, long thresholdMillis, long totalPins, Map<String, Long> bySite) {}
+}
@@ -0,0 +1,69 @@
+package com.monghit.java25.web;
+
+import com.monghit.java25.features.RequestContext;
+import com.monghit.java25.features.ScopedValuesDemo;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Enlaza RequestContext.CURRENT durante toda la cadena de filtros y el controlador.
+ *
+ * El contexto se construye con las cabeceras X-Request-Id (se genera un UUID si no
+ * viene), X-User-Id y X-Tenant-Id, y el X-Request-Id efectivo se devuelve en la
+ * respuesta. Si hay tenant se enlaza también ScopedValuesDemo.TENANT_ID, que es lo
+ * que lee TenantBulkhead. Al salir de call() los bindings desaparecen sin limpieza
+ * explícita.
+ *
+ * Los dispatch asíncronos (CompletableFuture, StreamingResponseBody) continúan en
+ * otro thread fuera del scope: OncePerRequestFilter no los vuelve a filtrar, así que
+ * esos handlers deben capturar el contexto antes de salir del thread de la petición.
+ */
+public class RequestContextFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String USER_ID_HEADER = "X-User-Id";
+    public static final String TENANT_ID_HEADER = "X-Tenant-Id";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        RequestContext context = new RequestContext(
+                requestId(request),
+                header(request, USER_ID_HEADER),
+                header(request, TENANT_ID_HEADER));
+        response.setHeader(REQUEST_ID_HEADER, context.requestId());
+
+        ScopedValue.CallableOp<Void, Exception> handler = () -> {
+            chain.doFilter(request, response);
+            return null;
+        };
+        ScopedValue.Carrier carrier = ScopedValue.where(RequestContext.CURRENT, context);
+        if (context.tenantId() != null) {
+            carrier = carrier.where(ScopedValuesDemo.TENANT_ID, context.tenantId());
+        }
+        try {
+            carrier.call(handler);
+        } catch (IOException | ServletException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            // doFilter solo declara IOException y ServletException
+            throw new ServletException(e);
+        }
+    }
+
+    private static String requestId(HttpServletRequest request) {
+        String requestId = header(request, REQUEST_ID_HEADER);
+        return requestId != null ? requestId : UUID.randomUUID().toString();
+    }
+
+    private static String header(HttpServletRequest request, String name) {
+        String value = request.getHeader(name);
+        return value == null || value.isBlank() ? null : value.strip();
+    }
+}
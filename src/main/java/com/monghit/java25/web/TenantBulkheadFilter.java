@@ -0,0 +1,83 @@
+package com.monghit.java25.web;
+
+import com.monghit.java25.features.TenantBulkhead;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Aplica TenantBulkhead a cada petición: sin permiso responde 429 con Retry-After y
+ * la petición no llega al controlador.
+ *
+ * Debe ir detrás de RequestContextFilter, que es quien enlaza el TENANT_ID.
+ *
+ * En las peticiones asíncronas (CompletableFuture, StreamingResponseBody) el trabajo
+ * sigue en curso cuando chain.doFilter() vuelve, así que el permiso se devuelve desde
+ * un AsyncListener al completar, fallar o expirar; el redespacho ASYNC no vuelve a
+ * pasar por el filtro (OncePerRequestFilter).
+ */
+public class TenantBulkheadFilter extends OncePerRequestFilter {
+
+    static final String RETRY_AFTER_SECONDS = "1";
+
+    private final TenantBulkhead bulkhead;
+
+    public TenantBulkheadFilter(TenantBulkhead bulkhead) {
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        TenantBulkhead.Permit permit = bulkhead.tryAcquire();
+        if (permit == null) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new PermitReleaser(permit));
+            } else {
+                permit.close();
+            }
+        }
+    }
+
+    /**
+     * Devuelve el permiso al terminar la petición asíncrona por cualquier vía.
+     */
+    private record PermitReleaser(TenantBulkhead.Permit permit) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            permit.close();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            permit.close();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            permit.close();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Un nuevo ciclo asíncrono reinicia los listeners: hay que volver a registrarse
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
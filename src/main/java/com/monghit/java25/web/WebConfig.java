@@ -0,0 +1,42 @@
+package com.monghit.java25.web;
+
+import com.monghit.java25.features.TenantBulkhead;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Registro de los filtros de la capa web.
+ */
+@Configuration
+public class WebConfig {
+
+    /**
+     * Primero de la cadena para que el resto de filtros ya vea el RequestContext.
+     */
+    @Bean
+    public FilterRegistrationBean<RequestContextFilter> requestContextFilter() {
+        FilterRegistrationBean<RequestContextFilter> registration =
+                new FilterRegistrationBean<>(new RequestContextFilter());
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /**
+     * Bulkhead por tenant sobre los endpoints con fan-out, justo detrás del contexto.
+     */
+    @Bean
+    public FilterRegistrationBean<TenantBulkheadFilter> tenantBulkheadFilter(TenantBulkhead bulkhead) {
+        FilterRegistrationBean<TenantBulkheadFilter> registration =
+                new FilterRegistrationBean<>(new TenantBulkheadFilter(bulkhead));
+        registration.addUrlPatterns(
+                "/api/java25/structured-concurrency/*",
+                "/api/java25/async/structured-concurrency/*",
+                "/api/java25/scoped-values/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        registration.setEnabled(bulkhead.isEnabled());
+        return registration;
+    }
+}
@@ -0,0 +1,121 @@
+package com.monghit.java25;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test de carga comparativo entre los dos modos de ejecución de peticiones
+ * (spring.threads.virtual.enabled=false/true).
+ *
+ * Arranca la aplicación tres veces en un puerto aleatorio y lanza la misma ráfaga de
+ * peticiones concurrentes contra /structured-concurrency/multi-source, que bloquea
+ * ~50 ms por petición. Con platform threads el pool de Tomcat (200 threads) procesa la
+ * ráfaga por oleadas; con virtual threads todas las peticiones bloquean a la vez.
+ * La tercera ejecución usa la variante no bloqueante (/api/java25/async) sobre el pool
+ * de platform threads, para comparar virtual threads y composición asíncrona.
+ *
+ * Excluido por defecto; ejecutar con:
+ *   mvn test -Dtest.excludedGroups= -Dgroups=load
+ */
+@Tag("load")
+@DisplayName("Execution Mode Load Test")
+class ExecutionModeLoadTest {
+
+    private static final int CONCURRENT_REQUESTS = 2_000;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final String BLOCKING_PATH = "/api/java25/structured-concurrency/multi-source?query=q-";
+    private static final String ASYNC_PATH = "/api/java25/async/structured-concurrency/multi-source?query=q-";
+
+    @Test
+    @DisplayName("virtual threads and async handlers should sustain more in-flight requests than the platform pool")
+    void virtualThreadsAndAsync_shouldOutperformPlatformPool() throws Exception {
+        LoadResult platform = runLoad(false, BLOCKING_PATH);
+        LoadResult virtual = runLoad(true, BLOCKING_PATH);
+        LoadResult async = runLoad(false, ASYNC_PATH);
+
+        System.out.printf("platform-threads: %d ok en %d ms (%.0f req/s)%n",
+                platform.succeeded(), platform.elapsedMillis(), platform.throughput());
+        System.out.printf("virtual-threads:  %d ok en %d ms (%.0f req/s)%n",
+                virtual.succeeded(), virtual.elapsedMillis(), virtual.throughput());
+        System.out.printf("async (platform): %d ok en %d ms (%.0f req/s)%n",
+                async.succeeded(), async.elapsedMillis(), async.throughput());
+
+        assertThat(platform.succeeded()).isEqualTo(CONCURRENT_REQUESTS);
+        assertThat(virtual.succeeded()).isEqualTo(CONCURRENT_REQUESTS);
+        assertThat(async.succeeded()).isEqualTo(CONCURRENT_REQUESTS);
+        assertThat(virtual.elapsedMillis()).isLessThan(platform.elapsedMillis());
+        assertThat(async.elapsedMillis()).isLessThan(platform.elapsedMillis());
+    }
+
+    private LoadResult runLoad(boolean virtualThreads, String path) throws Exception {
+        try (ConfigurableApplicationContext context = SpringApplication.run(
+                Java25FeaturesApplication.class,
+                "--spring.profiles.active=test",
+                "--server.port=0",
+                "--server.tomcat.threads.max=" + TOMCAT_MAX_THREADS,
+                "--server.tomcat.accept-count=" + CONCURRENT_REQUESTS,
+                "--server.tomcat.max-connections=" + CONCURRENT_REQUESTS * 2,
+                // Sin bulkhead: se mide el modo de ejecución, no el load shedding
+                "--java25.bulkhead.enabled=false",
+                "--spring.threads.virtual.enabled=" + virtualThreads)) {
+
+            String port = context.getEnvironment().getProperty("local.server.port");
+            String baseUrl = "http://localhost:" + port + path;
+
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+                 HttpClient http = HttpClient.newBuilder()
+                         .executor(clients)
+                         .connectTimeout(Duration.ofSeconds(10))
+                         .build()) {
+
+                // Calentamiento: carga de clases y JIT fuera de la medición
+                send(http, baseUrl + "warmup");
+
+                long start = System.nanoTime();
+                List<Future<Integer>> responses = new ArrayList<>(CONCURRENT_REQUESTS);
+                for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                    String url = baseUrl + i;
+                    responses.add(clients.submit(() -> send(http, url)));
+                }
+                int succeeded = 0;
+                for (Future<Integer> response : responses) {
+                    if (response.get() == 200) {
+                        succeeded++;
+                    }
+                }
+                long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+                return new LoadResult(succeeded, elapsedMillis);
+            }
+        }
+    }
+
+    private static int send(HttpClient http, String url) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+        return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private record LoadResult(int succeeded, long elapsedMillis) {
+        double throughput() {
+            return succeeded * 1_000.0 / Math.max(1, elapsedMillis);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.monghit.java25.controller;
+
+import com.monghit.java25.features.AsyncStructuredConcurrencyDemo;
+import com.monghit.java25.features.StructuredConcurrencyDemo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Test del controller asíncrono usando @WebMvcTest: cada petición arranca el
+ * procesamiento asíncrono y la respuesta se comprueba tras el asyncDispatch.
+ */
+@WebMvcTest(AsyncStructuredConcurrencyController.class)
+@DisplayName("AsyncStructuredConcurrencyController Tests")
+class AsyncStructuredConcurrencyControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private AsyncStructuredConcurrencyDemo asyncDemo;
+
+    @Test
+    @DisplayName("GET /api/java25/async/structured-concurrency/user-data should complete asynchronously")
+    void fetchUserData_shouldCompleteAsynchronously() throws Exception {
+        when(asyncDemo.fetchUserData(anyString()))
+                .thenReturn(CompletableFuture.completedFuture("User data fetched"));
+
+        MvcResult pending = mockMvc.perform(get("/api/java25/async/structured-concurrency/user-data")
+                        .param("userId", "user123"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(content().string("User data fetched"));
+    }
+
+    @Test
+    @DisplayName("GET /api/java25/async/structured-concurrency/multi-source should accept hedging delays")
+    void fetchFromMultipleSources_shouldApplyHedgingDelays() throws Exception {
+        var policy = new StructuredConcurrencyDemo.HedgingPolicy(Duration.ofMillis(20), Duration.ofMillis(250));
+        when(asyncDemo.fetchFromMultipleSources("search-term", policy))
+                .thenReturn(CompletableFuture.completedFuture("Hedged result"));
+
+        MvcResult pending = mockMvc.perform(get("/api/java25/async/structured-concurrency/multi-source")
+                        .param("query", "search-term")
+                        .param("dbHedgeMs", "20"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(content().string("Hedged result"));
+    }
+
+    @Test
+    @DisplayName("GET /api/java25/async/structured-concurrency/multi-source should reject negative hedging delays")
+    void fetchFromMultipleSources_withNegativeHedgeDelay_shouldReturnBadRequest() throws Exception {
+        MvcResult pending = mockMvc.perform(get("/api/java25/async/structured-concurrency/multi-source")
+                        .param("query", "search-term")
+                        .param("dbHedgeMs", "-5"))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isBadRequest());
+        verify(asyncDemo, never()).fetchFromMultipleSources(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("GET /api/java25/async/structured-concurrency/timeout should take the deadline from the header")
+    void fetchWithTimeout_shouldUseDeadlineHeader() throws Exception {
+        when(asyncDemo.fetchWithTimeout("user123", Duration.ofMillis(1200)))
+                .thenReturn(CompletableFuture.completedFuture("SlowOp1-user123 | [timeout] slowOperation2"));
+
+        MvcResult pending = mockMvc.perform(get("/api/java25/async/structured-concurrency/timeout")
+                        .param("userId", "user123")
+                        .header("X-Request-Timeout-Ms", "1200"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(content().string("SlowOp1-user123 | [timeout] slowOperation2"));
+    }
+
+    @Test
+    @DisplayName("POST /api/java25/async/structured-concurrency/virtual-threads/batch should process items")
+    void processBatch_shouldProcessItems() throws Exception {
+        when(asyncDemo.processBatch(List.of("a", "b"), 1))
+                .thenReturn(CompletableFuture.completedFuture(List.of("[A]", "[B]")));
+
+        MvcResult pending = mockMvc.perform(post("/api/java25/async/structured-concurrency/virtual-threads/batch")
+                        .param("batchSize", "1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"a\",\"b\"]"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value("[A]"))
+                .andExpect(jsonPath("$[1]").value("[B]"));
+    }
+
+    @Test
+    @DisplayName("POST /api/java25/async/structured-concurrency/virtual-threads/batch should reject oversized batches")
+    void processBatch_withTooManyItems_shouldReturnBadRequest() throws Exception {
+        String tooMany = "[" + String.join(",",
+                Collections.nCopies(StructuredConcurrencyDemo.MAX_BATCH_ITEMS + 1, "\"x\"")) + "]";
+
+        MvcResult pending = mockMvc.perform(post("/api/java25/async/structured-concurrency/virtual-threads/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(tooMany))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isBadRequest());
+        verify(asyncDemo, never()).processBatch(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("GET /api/java25/async/structured-concurrency/aggregate should return summary")
+    void aggregateData_shouldReturnSummary() throws Exception {
+        when(asyncDemo.aggregateData("sales"))
+                .thenReturn(CompletableFuture.completedFuture(
+                        new StructuredConcurrencyDemo.Summary(10, 45.0, 4.5, 9)));
+
+        MvcResult pending = mockMvc.perform(get("/api/java25/async/structured-concurrency/aggregate")
+                        .param("category", "sales"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(10))
+                .andExpect(jsonPath("$.max").value(9));
+    }
+}
@@ -10,9 +10,16 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -69,7 +76,8 @@ class Java25FeaturesControllerTest {
                     .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                     .andExpect(jsonPath("$.status").value("UP"))
                     .andExpect(jsonPath("$.javaVersion").exists())
-                    .andExpect(jsonPath("$.application").value("Java 25 Features Demo"));
+                    .andExpect(jsonPath("$.application").value("Java 25 Features Demo"))
+                    .andExpect(jsonPath("$.executionMode").exists());
         }
     }
 
@@ -104,15 +112,59 @@ class Java25FeaturesControllerTest {
         @Test
         @DisplayName("POST /api/java25/primitive-patterns/convert should convert to int")
         void convertToInt_shouldConvertValue() throws Exception {
-            when(primitivePatternDemo.safeConvertToInt(any())).thenReturn(42);
+            when(primitivePatternDemo.strictConvertToInt(any()))
+                    .thenReturn(new StrictIntConverter.Conversion(42, StrictIntConverter.Outcome.LOSSLESS));
 
             mockMvc.perform(post("/api/java25/primitive-patterns/convert")
                             .contentType(MediaType.APPLICATION_JSON)
                             .content("\"42\""))
                     .andExpect(status().isOk())
+                    .andExpect(header().string("X-Conversion-Outcome", "LOSSLESS"))
                     .andExpect(content().string("42"));
         }
 
+        @Test
+        @DisplayName("POST /api/java25/primitive-patterns/convert should report truncation in a header")
+        void convertToInt_withLossyValue_shouldReportOutcome() throws Exception {
+            when(primitivePatternDemo.strictConvertToInt(any()))
+                    .thenReturn(new StrictIntConverter.Conversion(3, StrictIntConverter.Outcome.LOSSY));
+
+            mockMvc.perform(post("/api/java25/primitive-patterns/convert")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("\"3.7\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("X-Conversion-Outcome", "LOSSY"))
+                    .andExpect(content().string("3"));
+        }
+
+        @Test
+        @DisplayName("POST /api/java25/primitive-patterns/convert should reject non-numeric values with 400")
+        void convertToInt_withNonNumericValue_shouldReturnBadRequest() throws Exception {
+            when(primitivePatternDemo.strictConvertToInt(any()))
+                    .thenReturn(new StrictIntConverter.Conversion(0, StrictIntConverter.Outcome.FAILED));
+
+            mockMvc.perform(post("/api/java25/primitive-patterns/convert")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("\"abc\""))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(header().string("X-Conversion-Outcome", "FAILED"))
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("POST /api/java25/primitive-patterns/convert/strict should report the conversion outcome")
+        void strictConvertToInt_shouldReportOutcome() throws Exception {
+            when(primitivePatternDemo.strictConvertToInt(any()))
+                    .thenReturn(new StrictIntConverter.Conversion(12, StrictIntConverter.Outcome.LOSSY));
+
+            mockMvc.perform(post("/api/java25/primitive-patterns/convert/strict")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("\"12.5\""))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.value").value(12))
+                    .andExpect(jsonPath("$.outcome").value("LOSSY"));
+        }
+
         @Test
         @DisplayName("POST /api/java25/primitive-patterns/validate should validate number")
         void validateNumber_shouldValidateNumber() throws Exception {
@@ -124,6 +176,27 @@ class Java25FeaturesControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(content().string("Valid positive number"));
         }
+
+        @Test
+        @DisplayName("POST /api/java25/primitive-patterns/validate should reject malformed body with 400")
+        void validateNumber_withMalformedBody_shouldReturnBadRequest() throws Exception {
+            mockMvc.perform(post("/api/java25/primitive-patterns/validate")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("12abc"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(header().string("X-Parse-Status", "MALFORMED"));
+
+            verify(primitivePatternDemo, never()).validateNumber(any());
+        }
+
+        @Test
+        @DisplayName("POST /api/java25/primitive-patterns/convert should reject empty body with 400")
+        void convertToInt_withEmptyBody_shouldReturnBadRequest() throws Exception {
+            mockMvc.perform(post("/api/java25/primitive-patterns/convert")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(header().string("X-Parse-Status", "EMPTY"));
+        }
     }
 
     @Nested
@@ -146,6 +219,21 @@ class Java25FeaturesControllerTest {
                     .andExpect(content().string(containsString("Tenant: tenant789")));
         }
 
+        @Test
+        @DisplayName("GET /api/java25/scoped-values/context-carrier should process with a single context record")
+        void testScopedValuesContextCarrier_shouldProcessWithContext() throws Exception {
+            when(scopedValuesDemo.processWithContextCarrier("user123", "req456", "tenant789"))
+                    .thenReturn("Procesando operación - User: user123, Request: req456, Tenant: tenant789");
+
+            mockMvc.perform(get("/api/java25/scoped-values/context-carrier")
+                            .param("userId", "user123")
+                            .param("requestId", "req456")
+                            .param("tenantId", "tenant789"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(containsString("User: user123")))
+                    .andExpect(content().string(containsString("Tenant: tenant789")));
+        }
+
         @Test
         @DisplayName("GET /api/java25/scoped-values/concurrency should process with concurrency")
         void testScopedValuesWithConcurrency_shouldProcessConcurrently() throws Exception {
@@ -158,6 +246,41 @@ class Java25FeaturesControllerTest {
                     .andExpect(content().string("Concurrent processing completed"));
         }
 
+        @Test
+        @DisplayName("GET /api/java25/scoped-values/concurrency/inheritance should return the inheritance report")
+        void testScopedValuesInheritance_shouldReturnReport() throws Exception {
+            when(scopedValuesDemo.verifyInheritance("user123", 5000))
+                    .thenReturn(new ScopedValuesDemo.InheritanceReport(5000, 5000, 0, 0, 42));
+
+            mockMvc.perform(get("/api/java25/scoped-values/concurrency/inheritance")
+                            .param("userId", "user123")
+                            .param("children", "5000"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.children").value(5000))
+                    .andExpect(jsonPath("$.inherited").value(5000))
+                    .andExpect(jsonPath("$.unbound").value(0));
+        }
+
+        @Test
+        @DisplayName("GET /api/java25/scoped-values/concurrency/inheritance should reject too many children")
+        void testScopedValuesInheritance_withTooManyChildren_shouldReturnBadRequest() throws Exception {
+            mockMvc.perform(get("/api/java25/scoped-values/concurrency/inheritance")
+                            .param("userId", "user123")
+                            .param("children", "10001"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("GET /api/java25/scoped-values/request-context should describe the bound context")
+        void testRequestContext_shouldDescribeContext() throws Exception {
+            when(scopedValuesDemo.describeRequestContext())
+                    .thenReturn("Request: req-1, User: alice, Tenant: acme | Subtarea: mismo contexto");
+
+            mockMvc.perform(get("/api/java25/scoped-values/request-context"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(containsString("Subtarea: mismo contexto")));
+        }
+
         @Test
         @DisplayName("GET /api/java25/scoped-values/nested should process nested scopes")
         void testNestedScopes_shouldProcessNestedScopes() throws Exception {
@@ -211,6 +334,31 @@ class Java25FeaturesControllerTest {
                     .andExpect(content().string("Data aggregated from multiple sources"));
         }
 
+        @Test
+        @DisplayName("GET /api/java25/structured-concurrency/multi-source should accept hedging delays")
+        void fetchFromMultipleSources_shouldApplyHedgingDelays() throws Exception {
+            var policy = new StructuredConcurrencyDemo.HedgingPolicy(Duration.ofMillis(20), Duration.ofMillis(250));
+            when(structuredConcurrencyDemo.fetchFromMultipleSources("search-term", policy))
+                    .thenReturn("Hedged result");
+
+            mockMvc.perform(get("/api/java25/structured-concurrency/multi-source")
+                            .param("query", "search-term")
+                            .param("dbHedgeMs", "20"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string("Hedged result"));
+        }
+
+        @Test
+        @DisplayName("GET /api/java25/structured-concurrency/multi-source should reject negative hedging delays")
+        void fetchFromMultipleSources_withNegativeHedgeDelay_shouldReturnBadRequest() throws Exception {
+            mockMvc.perform(get("/api/java25/structured-concurrency/multi-source")
+                            .param("query", "search-term")
+                            .param("apiHedgeMs", "-1"))
+                    .andExpect(status().isBadRequest());
+
+            verify(structuredConcurrencyDemo, never()).fetchFromMultipleSources(anyString(), any());
+        }
+
         @Test
         @DisplayName("GET /api/java25/structured-concurrency/timeout should handle timeout")
         void fetchWithTimeout_shouldHandleTimeout() throws Exception {
@@ -223,6 +371,19 @@ class Java25FeaturesControllerTest {
                     .andExpect(content().string("Data fetched within timeout"));
         }
 
+        @Test
+        @DisplayName("GET /api/java25/structured-concurrency/timeout should take the deadline from the header")
+        void fetchWithTimeout_shouldUseDeadlineHeader() throws Exception {
+            when(structuredConcurrencyDemo.fetchWithTimeout("user123", Duration.ofMillis(1200)))
+                    .thenReturn("SlowOp1-user123 | [timeout] slowOperation2");
+
+            mockMvc.perform(get("/api/java25/structured-concurrency/timeout")
+                            .param("userId", "user123")
+                            .header("X-Request-Timeout-Ms", "1200"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(containsString("[timeout] slowOperation2")));
+        }
+
         @Test
         @DisplayName("GET /api/java25/structured-concurrency/virtual-threads should process with virtual threads")
         void processWithVirtualThreads_shouldProcessWithVirtualThreads() throws Exception {
@@ -235,6 +396,40 @@ class Java25FeaturesControllerTest {
                     .andExpect(content().string("Processed with virtual threads"));
         }
 
+        @Test
+        @DisplayName("POST /api/java25/structured-concurrency/virtual-threads/batch should process a list")
+        void processBatch_shouldProcessList() throws Exception {
+            when(structuredConcurrencyDemo.processBatch(List.of("a", "b"), 10))
+                    .thenReturn(List.of("[a]", "[b]"));
+
+            mockMvc.perform(post("/api/java25/structured-concurrency/virtual-threads/batch")
+                            .param("batchSize", "10")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[\"a\", \"b\"]"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(2)))
+                    .andExpect(jsonPath("$[1]").value("[b]"));
+        }
+
+        @Test
+        @DisplayName("POST /api/java25/structured-concurrency/virtual-threads/batch should reject invalid batches")
+        void processBatch_withInvalidBatch_shouldReturnBadRequest() throws Exception {
+            mockMvc.perform(post("/api/java25/structured-concurrency/virtual-threads/batch")
+                            .param("batchSize", "0")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[\"a\", \"b\"]"))
+                    .andExpect(status().isBadRequest());
+
+            String tooMany = "[" + String.join(",",
+                    Collections.nCopies(StructuredConcurrencyDemo.MAX_BATCH_ITEMS + 1, "\"x\"")) + "]";
+            mockMvc.perform(post("/api/java25/structured-concurrency/virtual-threads/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(tooMany))
+                    .andExpect(status().isBadRequest());
+
+            verify(structuredConcurrencyDemo, never()).processBatch(any(), anyInt());
+        }
+
         @Test
         @DisplayName("GET /api/java25/structured-concurrency/aggregate should aggregate data")
         void aggregateData_shouldAggregateData() throws Exception {
@@ -298,6 +493,38 @@ class Java25FeaturesControllerTest {
                     .andExpect(jsonPath("$.data").value("resultado-complejo"))
                     .andExpect(jsonPath("$.value").value(42));
         }
+
+        @Test
+        @DisplayName("GET /api/java25/stable-values/benchmark should return the comparison report")
+        void benchmarkStableValues_shouldReturnReport() throws Exception {
+            var report = new StableValueComparison.ComparisonReport(2, 100, List.of(
+                    new StableValueComparison.StrategyResult("stable-value-instance", 1.5, 0.1, 900.0, 1100.0, 1)));
+            when(stableValuesDemo.compareWithTraditionalApproaches(2, 100)).thenReturn(report);
+
+            mockMvc.perform(get("/api/java25/stable-values/benchmark")
+                            .param("threads", "2")
+                            .param("reads", "100"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.threads").value(2))
+                    .andExpect(jsonPath("$.results[0].strategy").value("stable-value-instance"))
+                    .andExpect(jsonPath("$.results[0].initializations").value(1));
+        }
+
+        @Test
+        @DisplayName("GET /api/java25/stable-values/benchmark should reject out-of-range threads and reads")
+        void benchmarkStableValues_withOutOfRangeParams_shouldReturnBadRequest() throws Exception {
+            mockMvc.perform(get("/api/java25/stable-values/benchmark")
+                            .param("threads", "100000"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/java25/stable-values/benchmark")
+                            .param("threads", "0"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/java25/stable-values/benchmark")
+                            .param("reads", "10000001"))
+                    .andExpect(status().isBadRequest());
+
+            verify(stableValuesDemo, never()).compareWithTraditionalApproaches(anyInt(), anyInt());
+        }
     }
 
     @Nested
@@ -0,0 +1,127 @@
+package com.monghit.java25.controller;
+
+import com.monghit.java25.features.AdaptiveConcurrencyLimiter;
+import com.monghit.java25.features.SingleFlight;
+import com.monghit.java25.features.StructuredConcurrencyDemo;
+import com.monghit.java25.features.TenantBulkhead;
+import com.monghit.java25.features.TinyLfuCache;
+import com.monghit.java25.jfr.JfrMetricsService;
+import com.monghit.java25.jfr.RollingHistogram;
+import com.monghit.java25.jfr.VirtualThreadPinningDetector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Test del controller de métricas usando @WebMvcTest.
+ */
+@WebMvcTest(MetricsController.class)
+@DisplayName("MetricsController Tests")
+class MetricsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private JfrMetricsService jfrMetricsService;
+
+    @MockitoBean
+    private VirtualThreadPinningDetector pinningDetector;
+
+    @MockitoBean
+    private TenantBulkhead tenantBulkhead;
+
+    @MockitoBean
+    private StructuredConcurrencyDemo structuredConcurrencyDemo;
+
+    @Test
+    @DisplayName("GET /api/java25/metrics/jfr should return JFR histograms")
+    void jfrMetrics_shouldReturnHistograms() throws Exception {
+        var gcPauses = new RollingHistogram.HistogramSnapshot(3, 1200.0, 1023, 2047, 2047, 1900);
+        when(jfrMetricsService.snapshot())
+                .thenReturn(new JfrMetricsService.JfrMetrics(true, 60, Map.of("gc.pause.us", gcPauses)));
+
+        mockMvc.perform(get("/api/java25/metrics/jfr"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.streaming").value(true))
+                .andExpect(jsonPath("$.windowSeconds").value(60))
+                .andExpect(jsonPath("$.histograms['gc.pause.us'].count").value(3))
+                .andExpect(jsonPath("$.histograms['gc.pause.us'].max").value(1900));
+    }
+
+    @Test
+    @DisplayName("GET /api/java25/metrics/pinning should return pinning sites")
+    void pinning_shouldReturnSites() throws Exception {
+        when(pinningDetector.report()).thenReturn(new VirtualThreadPinningDetector.PinningReport(
+                true, 20, 4, Map.of("com.example.Legacy.read:42", 4L)));
+
+        mockMvc.perform(get("/api/java25/metrics/pinning"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.running").value(true))
+                .andExpect(jsonPath("$.thresholdMillis").value(20))
+                .andExpect(jsonPath("$.totalPins").value(4))
+                .andExpect(jsonPath("$.bySite['com.example.Legacy.read:42']").value(4));
+    }
+
+    @Test
+    @DisplayName("GET /api/java25/metrics/tenants should return bulkhead stats per tenant")
+    void tenants_shouldReturnStatsPerTenant() throws Exception {
+        when(tenantBulkhead.stats()).thenReturn(Map.of(
+                "acme", new TenantBulkhead.TenantStats(3, 1, 120, 116, 7)));
+
+        mockMvc.perform(get("/api/java25/metrics/tenants"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.acme.inFlight").value(3))
+                .andExpect(jsonPath("$.acme.admitted").value(120))
+                .andExpect(jsonPath("$.acme.rejected").value(7));
+    }
+
+    @Test
+    @DisplayName("GET /api/java25/metrics/backends should return adaptive limiter stats per backend")
+    void backends_shouldReturnLimiterStats() throws Exception {
+        when(structuredConcurrencyDemo.backendStats()).thenReturn(Map.of(
+                "database", new AdaptiveConcurrencyLimiter.Stats(64, 12, 900, 35, 0, 200.4)));
+
+        mockMvc.perform(get("/api/java25/metrics/backends"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.database.limit").value(64))
+                .andExpect(jsonPath("$.database.inFlight").value(12))
+                .andExpect(jsonPath("$.database.rejected").value(35));
+    }
+
+    @Test
+    @DisplayName("GET /api/java25/metrics/single-flight should return coalescing stats")
+    void singleFlight_shouldReturnStats() throws Exception {
+        when(structuredConcurrencyDemo.userDataFlightStats()).thenReturn(new SingleFlight.Stats(30, 270, 2, 3));
+
+        mockMvc.perform(get("/api/java25/metrics/single-flight"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.executions").value(30))
+                .andExpect(jsonPath("$.shared").value(270))
+                .andExpect(jsonPath("$.cancelled").value(2));
+    }
+
+    @Test
+    @DisplayName("GET /api/java25/metrics/caches should return user-data cache stats")
+    void caches_shouldReturnStatsPerCache() throws Exception {
+        when(structuredConcurrencyDemo.userDataCacheStats()).thenReturn(Map.of(
+                "profile", new TinyLfuCache.CacheStats(900, 100, 0.9, 12, 3, 40, 0, 850, 95_000, 4_194_304)));
+
+        mockMvc.perform(get("/api/java25/metrics/caches"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.profile.hitRatio").value(0.9))
+                .andExpect(jsonPath("$.profile.evictions").value(12))
+                .andExpect(jsonPath("$.profile.weight").value(95_000));
+    }
+}
@@ -0,0 +1,189 @@
+package com.monghit.java25.controller;
+
+import com.monghit.java25.features.PrimitiveBatchProcessor;
+import com.monghit.java25.features.PrimitivePatternMatchingDemo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Test de los endpoints por lotes con el procesador real: la respuesta se genera en
+ * streaming (StreamingResponseBody) y se comprueba tras el asyncDispatch.
+ */
+@WebMvcTest(PrimitiveBatchController.class)
+@Import({PrimitiveBatchProcessor.class, PrimitivePatternMatchingDemo.class})
+@DisplayName("PrimitiveBatchController Tests")
+class PrimitiveBatchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("POST /primitive-patterns/process/batch should answer a JSON array with a JSON array")
+    void processBatch_shouldStreamJsonArray() throws Exception {
+        MvcResult pending = mockMvc.perform(post("/api/java25/primitive-patterns/process/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[150, 5, \"hola\", null]"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(content().string(
+                        "[\"Integer grande: 150\",\"Integer pequeño: 5\",\"String: hola\",\"Null value\"]"));
+    }
+
+    @Test
+    @DisplayName("POST /primitive-patterns/validate/batch should answer NDJSON with NDJSON")
+    void validateBatch_shouldStreamNdjson() throws Exception {
+        MvcResult pending = mockMvc.perform(post("/api/java25/primitive-patterns/validate/batch")
+                        .contentType(PrimitiveBatchProcessor.NDJSON_VALUE)
+                        .content("-5\n0\n50\n500\n"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(PrimitiveBatchProcessor.NDJSON_VALUE))
+                .andExpect(content().string("""
+                        "Número negativo"
+                        "Cero"
+                        "Número positivo pequeño"
+                        "Número positivo grande"
+                        """));
+    }
+
+    @Test
+    @DisplayName("POST /primitive-patterns/convert/batch should keep going after malformed elements")
+    void convertBatch_shouldWriteNullForMalformedElements() throws Exception {
+        MvcResult pending = mockMvc.perform(post("/api/java25/primitive-patterns/convert/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[42, \"123\", \"abc\", tru, {\"a\": 1}, 3.9]"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(content().string("[42,123,null,null,null,3]"));
+    }
+
+    @Test
+    @DisplayName("POST /primitive-patterns/validate/batch should end a truncated array with an error record")
+    void validateBatch_withTruncatedArray_shouldEndWithErrorRecord() throws Exception {
+        MvcResult pending = mockMvc.perform(post("/api/java25/primitive-patterns/validate/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1, 2, \"abc"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[1]").value("Número positivo pequeño"))
+                .andExpect(jsonPath("$[2].error").value(containsString("string sin cerrar")));
+    }
+
+    @Test
+    @DisplayName("POST /primitive-patterns/convert/batch should end malformed NDJSON with an error line")
+    void convertBatch_withMalformedNdjson_shouldEndWithErrorLine() throws Exception {
+        MvcResult pending = mockMvc.perform(post("/api/java25/primitive-patterns/convert/batch")
+                        .contentType(PrimitiveBatchProcessor.NDJSON_VALUE)
+                        .content("1\n{\"a\": 2\n"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(content().string(startsWith("1\n{\"error\":\"")))
+                .andExpect(content().string(containsString("objeto o array sin cerrar")))
+                .andExpect(content().string(endsWith("}\n")));
+    }
+
+    @Test
+    @DisplayName("POST /primitive-patterns/check-type/batch should reject unsupported media types")
+    void checkTypeBatch_shouldRejectUnsupportedMediaType() throws Exception {
+        mockMvc.perform(post("/api/java25/primitive-patterns/check-type/batch")
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .content("1"))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+
+    @Test
+    @DisplayName("POST /primitive-patterns/validate/bulk should return per-element codes and the histogram")
+    void validateBulk_shouldReturnCodesAndHistogram() throws Exception {
+        MvcResult pending = mockMvc.perform(post("/api/java25/primitive-patterns/validate/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[-5, 0, 50, 500, 5000, 9999999999, 2.5, \"x\", 7.0]"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.codes").value(contains(0, 1, 2, 3, 3, 4, 4, 4, 2)))
+                .andExpect(jsonPath("$.total").value(9))
+                .andExpect(jsonPath("$.histogram['Número negativo']").value(1))
+                .andExpect(jsonPath("$.histogram['Cero']").value(1))
+                .andExpect(jsonPath("$.histogram['Número positivo pequeño']").value(2))
+                .andExpect(jsonPath("$.histogram['Número positivo grande']").value(2))
+                .andExpect(jsonPath("$.histogram['No es un entero']").value(3));
+    }
+
+    @Test
+    @DisplayName("POST /primitive-patterns/validate/bulk should classify columns larger than one chunk")
+    void validateBulk_withSeveralChunks_shouldClassifyEveryElement() throws Exception {
+        int size = 10_000;
+        String column = IntStream.range(0, size)
+                .mapToObj(i -> Integer.toString(i - 50))
+                .collect(Collectors.joining(",", "[", "]"));
+
+        MvcResult pending = mockMvc.perform(post("/api/java25/primitive-patterns/validate/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(column))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.codes.length()").value(size))
+                .andExpect(jsonPath("$.codes[49]").value(0))
+                .andExpect(jsonPath("$.codes[50]").value(1))
+                .andExpect(jsonPath("$.codes[9999]").value(3))
+                .andExpect(jsonPath("$.total").value(size))
+                .andExpect(jsonPath("$.histogram['Número negativo']").value(50))
+                .andExpect(jsonPath("$.histogram['Número positivo pequeño']").value(100))
+                .andExpect(jsonPath("$.histogram['Número positivo grande']").value(size - 151));
+    }
+
+    @Test
+    @DisplayName("POST /primitive-patterns/validate/bulk should report a truncated column")
+    void validateBulk_withTruncatedColumn_shouldReportError() throws Exception {
+        MvcResult pending = mockMvc.perform(post("/api/java25/primitive-patterns/validate/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1, -2, 3"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.codes").value(contains(2, 0, 2)))
+                .andExpect(jsonPath("$.error").value(containsString("array sin cerrar")))
+                .andExpect(jsonPath("$.total").value(3));
+    }
+}
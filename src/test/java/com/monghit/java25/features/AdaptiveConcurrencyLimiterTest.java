@@ -0,0 +1,106 @@
+package com.monghit.java25.features;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * Tests unitarios para AdaptiveConcurrencyLimiter
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    // ==================== AIMD Tests ====================
+
+    @Test
+    void fastSamples_shouldIncreaseLimitAdditivelyOnlyWhenUsed() {
+        var limiter = new AdaptiveConcurrencyLimiter("db", new AdaptiveConcurrencyLimiter.Settings(10, 1, 12, 2.0, 0.5));
+
+        limiter.onSample(100 * MILLIS, 1, false);
+        assertThat(limiter.limit()).isEqualTo(10);
+
+        limiter.onSample(100 * MILLIS, 5, false);
+        limiter.onSample(110 * MILLIS, 9, false);
+        limiter.onSample(100 * MILLIS, 9, false);
+        assertThat(limiter.limit()).isEqualTo(12);
+    }
+
+    @Test
+    void slowSamplesAndFailures_shouldDecreaseLimitMultiplicatively() {
+        var limiter = new AdaptiveConcurrencyLimiter("db", new AdaptiveConcurrencyLimiter.Settings(40, 4, 100, 2.0, 0.5));
+
+        limiter.onSample(100 * MILLIS, 0, false);
+        limiter.onSample(250 * MILLIS, 30, false);
+        assertThat(limiter.limit()).isEqualTo(20);
+
+        limiter.onSample(0, 10, true);
+        limiter.onSample(0, 10, true);
+        limiter.onSample(0, 10, true);
+        assertThat(limiter.limit()).isEqualTo(4);
+        assertThat(limiter.stats().minLatencyMillis()).isEqualTo(100.0);
+    }
+
+    // ==================== Rechazo Tests ====================
+
+    @Test
+    void call_beyondLimit_shouldRejectImmediately() throws Exception {
+        var limiter = new AdaptiveConcurrencyLimiter("api", new AdaptiveConcurrencyLimiter.Settings(1, 1, 1, 2.0, 0.9));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread holder = Thread.ofVirtual().start(() -> limiter.call(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "ok";
+        }));
+        started.await();
+
+        Throwable rejection = catchThrowable(() -> limiter.call(() -> "nunca"));
+
+        assertThat(rejection)
+                .isInstanceOf(BackendOverloadedException.class)
+                .hasMessageContaining("api");
+        assertThat(rejection.getStackTrace()).isEmpty();
+
+        release.countDown();
+        holder.join();
+
+        assertThat(limiter.call(() -> "ok")).isEqualTo("ok");
+        AdaptiveConcurrencyLimiter.Stats stats = limiter.stats();
+        assertThat(stats.accepted()).isEqualTo(2);
+        assertThat(stats.rejected()).isEqualTo(1);
+        assertThat(stats.inFlight()).isZero();
+    }
+
+    @Test
+    void call_whenBackendFails_shouldReleasePermitAndCountDrop() {
+        var limiter = new AdaptiveConcurrencyLimiter("api", new AdaptiveConcurrencyLimiter.Settings(2, 1, 2, 2.0, 0.5));
+
+        assertThatThrownBy(() -> limiter.call(() -> {
+            throw new IllegalStateException("caído");
+        })).isInstanceOf(IllegalStateException.class);
+
+        AdaptiveConcurrencyLimiter.Stats stats = limiter.stats();
+        assertThat(stats.inFlight()).isZero();
+        assertThat(stats.dropped()).isEqualTo(1);
+        assertThat(stats.limit()).isEqualTo(1);
+    }
+
+    @Test
+    void settings_shouldBeValidated() {
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter.Settings(10, 20, 30, 2.0, 0.9))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter.Settings(10, 1, 30, 2.0, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
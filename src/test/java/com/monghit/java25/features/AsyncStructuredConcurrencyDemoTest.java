@@ -0,0 +1,125 @@
+package com.monghit.java25.features;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitarios para AsyncStructuredConcurrencyDemo: mismos resultados que la
+ * variante con StructuredTaskScope.
+ */
+class AsyncStructuredConcurrencyDemoTest {
+
+    private AsyncStructuredConcurrencyDemo demo;
+
+    @BeforeEach
+    void setUp() {
+        demo = new AsyncStructuredConcurrencyDemo();
+    }
+
+    // ==================== fetchUserData Tests ====================
+
+    @Test
+    void fetchUserData_shouldContainAllComponents() {
+        String result = demo.fetchUserData("testUser").join();
+
+        assertThat(result).isEqualTo(
+                "User: Profile-testUser, Orders: Orders-testUser, Preferences: Preferences-testUser");
+    }
+
+    @Test
+    void fetchUserData_shouldNotBlockTheCaller() {
+        CompletableFuture<String> result = demo.fetchUserData("asyncUser");
+
+        // La llamada solo programa los temporizadores: vuelve antes de que responda ningún backend
+        assertThat(result).isNotDone();
+        assertThat(result.join()).contains("asyncUser");
+    }
+
+    // ==================== fetchFromMultipleSources Tests ====================
+
+    @Test
+    void fetchFromMultipleSources_shouldReturnCacheResult() {
+        String result = demo.fetchFromMultipleSources("testQuery").join();
+
+        assertThat(result).isEqualTo("Cache-Result: testQuery");
+    }
+
+    @Test
+    void fetchFromMultipleSources_shouldRaceBackendsWithoutHedging() {
+        var policy = new StructuredConcurrencyDemo.HedgingPolicy(Duration.ZERO, Duration.ZERO);
+
+        String result = demo.fetchFromMultipleSources("race", policy).join();
+
+        // La caché (50 ms) sigue ganando a la base de datos (200 ms) y a la API (300 ms)
+        assertThat(result).isEqualTo("Cache-Result: race");
+    }
+
+    // ==================== fetchWithTimeout Tests ====================
+
+    @Test
+    void fetchWithTimeout_shouldWaitForBothWithoutDeadline() {
+        String result = demo.fetchWithTimeout("user1").join();
+
+        assertThat(result).isEqualTo("SlowOp1-user1 | SlowOp2-user1");
+    }
+
+    @Test
+    void fetchWithTimeout_shouldReturnPartialResultOnDeadline() {
+        String result = demo.fetchWithTimeout("user1", Duration.ofMillis(1200)).join();
+
+        // El marcador solo aparece si orTimeout completó la operación antes que su backend
+        assertThat(result).isEqualTo("SlowOp1-user1 | [timeout] slowOperation2");
+    }
+
+    @Test
+    void fetchWithTimeout_shouldMarkBothWhenDeadlineAlreadyExpired() {
+        String result = demo.fetchWithTimeout("user1", Duration.ZERO).join();
+
+        assertThat(result).isEqualTo("[timeout] slowOperation1 | [timeout] slowOperation2");
+    }
+
+    // ==================== processInParallel / processBatch Tests ====================
+
+    @Test
+    void processInParallel_shouldReturnAllStages() {
+        String result = demo.processInParallel("data").join();
+
+        assertThat(result).isEqualTo("Resultados: [Processed1-data, Processed2-data, Processed3-data]");
+    }
+
+    @Test
+    void processBatch_shouldKeepInputOrder() {
+        List<String> items = IntStream.range(0, 1_000).mapToObj(i -> "item" + i).toList();
+
+        List<String> result = demo.processBatch(items, 64).join();
+
+        assertThat(result).hasSize(1_000);
+        assertThat(result.get(0)).isEqualTo("[Processed1-item0, Processed2-item0, Processed3-item0]");
+        assertThat(result.get(999)).contains("item999");
+    }
+
+    @Test
+    void processBatch_shouldRejectNonPositiveBatchSize() {
+        assertThatThrownBy(() -> demo.processBatch(List.of("a"), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // ==================== aggregateData Tests ====================
+
+    @Test
+    void aggregateData_shouldMatchStructuredVariant() throws Exception {
+        StructuredConcurrencyDemo.Summary expected = new StructuredConcurrencyDemo().aggregateData("sales", 4);
+
+        StructuredConcurrencyDemo.Summary result = demo.aggregateData("sales", 7).join();
+
+        assertThat(result).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,95 @@
+package com.monghit.java25.features;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static com.monghit.java25.features.PrimitiveClassifier.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitarios para BulkValidator y VectorizedClassifier: la ruta vectorial debe
+ * producir exactamente los mismos códigos y conteos que la escalar.
+ */
+class BulkValidatorTest {
+
+    // ==================== Vector API Tests ====================
+
+    @Test
+    void vectorApi_shouldBeAvailableInTests() {
+        // surefire arranca con --add-modules jdk.incubator.vector
+        assertThat(BulkValidator.VECTORIZED).isTrue();
+        assertThat(BulkValidator.implementation()).isEqualTo("vector-api");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 64, 1_000, 10_007})
+    void vectorizedInts_shouldMatchScalar(int length) {
+        Random random = new Random(length);
+        int[] values = new int[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = random.nextInt(-300, 300);
+        }
+        if (length > 0) {
+            values[length / 2] = Integer.MIN_VALUE;
+        }
+
+        byte[] expectedCodes = new byte[length];
+        long[] expectedCounts = new long[CODES];
+        PrimitiveClassifier.classify(values, expectedCodes, expectedCounts);
+
+        byte[] codes = new byte[length];
+        long[] counts = new long[CODES];
+        VectorizedClassifier.classify(values, codes, counts);
+
+        assertThat(codes).isEqualTo(expectedCodes);
+        assertThat(counts).isEqualTo(expectedCounts);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 3, 33, 4_099})
+    void vectorizedLongs_shouldMatchScalar(int length) {
+        Random random = new Random(length);
+        long[] values = new long[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = switch (i % 4) {
+                case 0 -> random.nextLong();
+                case 1 -> random.nextLong(-300, 300);
+                case 2 -> Integer.MAX_VALUE + (long) random.nextInt(0, 3) - 1;
+                default -> Integer.MIN_VALUE - (long) random.nextInt(0, 3) + 1;
+            };
+        }
+
+        byte[] expectedCodes = new byte[length];
+        long[] expectedCounts = new long[CODES];
+        PrimitiveClassifier.classify(values, expectedCodes, expectedCounts);
+
+        byte[] codes = new byte[length];
+        long[] counts = new long[CODES];
+        VectorizedClassifier.classify(values, codes, counts);
+
+        assertThat(codes).isEqualTo(expectedCodes);
+        assertThat(counts).isEqualTo(expectedCounts);
+    }
+
+    // ==================== Facade Tests ====================
+
+    @Test
+    void validate_shouldReturnCodesAndHistogram() {
+        BulkValidator.Validation validation = BulkValidator.validate(new int[]{-1, 0, 0, 50, 101, 5_000, 7, 100, -9});
+
+        assertThat(validation.codes()).containsExactly(NEGATIVE, ZERO, ZERO, SMALL_POSITIVE, LARGE_POSITIVE,
+                LARGE_POSITIVE, SMALL_POSITIVE, SMALL_POSITIVE, NEGATIVE);
+        assertThat(validation.counts()).containsExactly(2, 2, 3, 2, 0);
+    }
+
+    @Test
+    void validate_shouldFlagLongsOutsideIntRange() {
+        BulkValidator.Validation validation = BulkValidator.validate(new long[]{Long.MAX_VALUE, 5L, -5L});
+
+        assertThat(validation.codes()).containsExactly(NOT_AN_INT, SMALL_POSITIVE, NEGATIVE);
+        assertThat(validation.counts()).containsExactly(1, 0, 1, 0, 1);
+    }
+}
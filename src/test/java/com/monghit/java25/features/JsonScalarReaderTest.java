@@ -0,0 +1,197 @@
+package com.monghit.java25.features;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitarios para JsonScalarReader
+ */
+class JsonScalarReaderTest {
+
+    // ==================== Formatos Tests ====================
+
+    @Test
+    void shouldReadJsonArray() throws IOException {
+        List<Object> values = readAll("[42, \"texto\", true, false, null, 3.5]");
+
+        assertThat(values).containsExactly(42, "texto", true, false, null, 3.5);
+    }
+
+    @Test
+    void shouldReadNdjson() throws IOException {
+        List<Object> values = readAll("1\n\"dos\"\r\n3.0\n");
+
+        assertThat(values).containsExactly(1, "dos", 3.0);
+    }
+
+    @Test
+    void shouldReadEmptyInputs() throws IOException {
+        assertThat(readAll("[]")).isEmpty();
+        assertThat(readAll("  \n ")).isEmpty();
+    }
+
+    // ==================== Números Tests ====================
+
+    @Test
+    void shouldUseSameNumericTypesAsJacksonBinding() throws IOException {
+        List<Object> values = readAll("[2147483647, 2147483648, -2147483648, -9223372036854775808, 1e3, -0.5]");
+
+        assertThat(values).containsExactly(
+                Integer.MAX_VALUE, 2_147_483_648L, Integer.MIN_VALUE, Long.MIN_VALUE, 1000.0, -0.5);
+    }
+
+    @Test
+    void shouldFallBackToDoubleWhenLongOverflows() throws IOException {
+        List<Object> values = readAll("[9223372036854775808]");
+
+        assertThat(values).containsExactly(9.223372036854775808E18);
+    }
+
+    @Test
+    void shouldFlagInvalidNumbersWithoutAbortingBatch() throws IOException {
+        JsonScalarReader reader = reader("[1., --1, 7]");
+
+        assertThat(reader.hasNext()).isTrue();
+        assertThat(reader.next()).isNull();
+        assertThat(reader.status()).isEqualTo(ScalarParser.Status.MALFORMED);
+        assertThat(reader.hasNext()).isTrue();
+        assertThat(reader.next()).isNull();
+        assertThat(reader.status()).isEqualTo(ScalarParser.Status.MALFORMED);
+        assertThat(reader.hasNext()).isTrue();
+        assertThat(reader.next()).isEqualTo(7);
+        assertThat(reader.status()).isEqualTo(ScalarParser.Status.OK);
+        assertThat(reader.hasNext()).isFalse();
+    }
+
+    // ==================== Strings Tests ====================
+
+    @Test
+    void shouldDecodeEscapesAndUtf8() throws IOException {
+        List<Object> values = readAll("[\"a\\\"b\\\\c\\n\", \"\\u00e1rbol\", \"año\"]");
+
+        assertThat(values).containsExactly("a\"b\\c\n", "árbol", "año");
+    }
+
+    // ==================== Errores Tests ====================
+
+    @Test
+    void shouldSkipNestedContainersAsUnsupported() throws IOException {
+        JsonScalarReader reader = reader("[{\"a\": [1, \"]\"]}, 2]");
+
+        assertThat(reader.hasNext()).isTrue();
+        assertThat(reader.next()).isNull();
+        assertThat(reader.status()).isEqualTo(ScalarParser.Status.UNSUPPORTED);
+        assertThat(reader.hasNext()).isTrue();
+        assertThat(reader.next()).isEqualTo(2);
+        assertThat(reader.status()).isEqualTo(ScalarParser.Status.OK);
+        assertThat(reader.hasNext()).isFalse();
+    }
+
+    @Test
+    void shouldAdvancePastStrayCommasInNdjson() throws IOException {
+        List<Object> values = readAll("1\n,\n2\n");
+
+        assertThat(values).containsExactly(1, null, 2);
+    }
+
+    @Test
+    void shouldRejectUnterminatedArray() {
+        assertThatThrownBy(() -> readAll("[1, 2"))
+                .isInstanceOf(JsonScalarReader.MalformedJsonException.class)
+                .hasMessageContaining("array sin cerrar");
+    }
+
+    @Test
+    void shouldReadLargeBatchIncrementally() throws IOException {
+        int values = 100_000;
+        InputStream ndjson = new InputStream() {
+            private int index;
+            private byte[] line = new byte[0];
+            private int offset;
+
+            @Override
+            public int read() {
+                if (offset == line.length) {
+                    if (index == values) {
+                        return -1;
+                    }
+                    line = (index++ + "\n").getBytes(StandardCharsets.US_ASCII);
+                    offset = 0;
+                }
+                return line[offset++];
+            }
+        };
+
+        JsonScalarReader reader = new JsonScalarReader(ndjson);
+        long sum = 0;
+        int count = 0;
+        while (reader.hasNext()) {
+            sum += (Integer) reader.next();
+            count++;
+        }
+
+        assertThat(count).isEqualTo(values);
+        assertThat(sum).isEqualTo((long) values * (values - 1) / 2);
+    }
+
+    // ==================== readStrings Tests ====================
+
+    @Test
+    void readStrings_shouldReturnArrayOfStrings() throws IOException {
+        assertThat(JsonScalarReader.readStrings(stream("[\"a\", \"b\"]"), 2)).contains(List.of("a", "b"));
+        assertThat(JsonScalarReader.readStrings(stream("[]"), 2)).contains(List.of());
+    }
+
+    @Test
+    void readStrings_shouldRejectNonArraysNonStringsAndMalformedInput() throws IOException {
+        assertThat(JsonScalarReader.readStrings(stream("\"a\"\n\"b\"\n"), 10)).isEmpty();
+        assertThat(JsonScalarReader.readStrings(stream(""), 10)).isEmpty();
+        assertThat(JsonScalarReader.readStrings(stream("[\"a\", 1]"), 10)).isEmpty();
+        assertThat(JsonScalarReader.readStrings(stream("[\"a\", \"b"), 10)).isEmpty();
+    }
+
+    @Test
+    void readStrings_shouldStopReadingOnceLimitIsExceeded() throws IOException {
+        // Array que nunca termina: solo se puede rechazar sin leerlo entero
+        AtomicLong bytesRead = new AtomicLong();
+        InputStream endless = new InputStream() {
+            private final byte[] element = "\"x\",".getBytes(StandardCharsets.US_ASCII);
+
+            @Override
+            public int read() {
+                long index = bytesRead.getAndIncrement();
+                return index == 0 ? '[' : element[(int) ((index - 1) % element.length)];
+            }
+        };
+
+        assertThat(JsonScalarReader.readStrings(endless, 1_000)).isEmpty();
+        assertThat(bytesRead.get()).isLessThan(64 * 1024);
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static JsonScalarReader reader(String json) {
+        return new JsonScalarReader(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static List<Object> readAll(String json) throws IOException {
+        JsonScalarReader reader = reader(json);
+        List<Object> values = new ArrayList<>();
+        while (reader.hasNext()) {
+            values.add(reader.next());
+        }
+        return values;
+    }
+}
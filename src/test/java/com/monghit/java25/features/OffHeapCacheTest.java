@@ -0,0 +1,159 @@
+package com.monghit.java25.features;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitarios para OffHeapCache y los BinaryCodec de los records
+ */
+class OffHeapCacheTest {
+
+    // ==================== get / put Tests ====================
+
+    @Test
+    void get_shouldReturnDecodedCopyOfStoredValue() {
+        var result = new StableValuesDemo.ExpensiveResult("resultado-ñandú", 42);
+        try (var cache = stringCache(100, 4_096);
+             var results = new OffHeapCache<>(BinaryCodec.STRING, BinaryCodec.EXPENSIVE_RESULT, 10, 1_024)) {
+            cache.put("k", "v");
+            results.put("complejo", result);
+
+            assertThat(cache.get("k")).isEqualTo("v");
+            assertThat(cache.get("otra")).isNull();
+            assertThat(results.get("complejo")).isEqualTo(result).isNotSameAs(result);
+            assertThat(cache.stats().hits()).isEqualTo(1);
+            assertThat(cache.stats().misses()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void put_withExistingKey_shouldReplaceValue() {
+        try (var cache = stringCache(100, 4_096)) {
+            cache.put("k", "v1");
+            cache.put("k", "v2");
+
+            assertThat(cache.get("k")).isEqualTo("v2");
+            assertThat(cache.size()).isEqualTo(1);
+        }
+    }
+
+    // ==================== Límites Tests ====================
+
+    @Test
+    void put_beyondMaxEntries_shouldEvictOldestFirst() {
+        try (var cache = stringCache(3, 4_096)) {
+            for (int i = 0; i < 5; i++) {
+                cache.put("k" + i, "v" + i);
+            }
+
+            assertThat(cache.size()).isEqualTo(3);
+            assertThat(cache.get("k0")).isNull();
+            assertThat(cache.get("k1")).isNull();
+            assertThat(cache.get("k4")).isEqualTo("v4");
+            assertThat(cache.stats().evictions()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void put_beyondMaxBytes_shouldWrapAroundAndStayWithinLimit() {
+        try (var cache = stringCache(1_000, 256)) {
+            for (int i = 0; i < 200; i++) {
+                cache.put("key-" + i, "valor-" + i);
+                assertThat(cache.stats().usedBytes()).isLessThanOrEqualTo(256);
+            }
+
+            assertThat(cache.get("key-199")).isEqualTo("valor-199");
+            assertThat(cache.get("key-0")).isNull();
+            assertThat(cache.stats().evictions()).isPositive();
+        }
+    }
+
+    @Test
+    void put_withEntryLargerThanRegion_shouldBeRejected() {
+        try (var cache = stringCache(10, 64)) {
+            cache.put("grande", "x".repeat(100));
+
+            assertThat(cache.get("grande")).isNull();
+            assertThat(cache.stats().rejected()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void randomWorkload_shouldOnlyReturnLatestValues() {
+        Map<String, String> latest = new HashMap<>();
+        Random random = new Random(7);
+        try (var cache = stringCache(64, 2_048)) {
+            for (int i = 0; i < 20_000; i++) {
+                String key = "k" + random.nextInt(200);
+                if (random.nextBoolean()) {
+                    String value = "v" + i + "-" + "x".repeat(random.nextInt(40));
+                    cache.put(key, value);
+                    latest.put(key, value);
+                } else {
+                    String cached = cache.get(key);
+                    if (cached != null) {
+                        assertThat(cached).isEqualTo(latest.get(key));
+                    }
+                }
+            }
+
+            assertThat(cache.size()).isLessThanOrEqualTo(64);
+            assertThat(cache.stats().hits()).isPositive();
+        }
+    }
+
+    @Test
+    void close_shouldReleaseMemoryAndStopServing() {
+        var cache = stringCache(10, 1_024);
+        cache.put("k", "v");
+
+        cache.close();
+        cache.put("otra", "v");
+
+        assertThat(cache.get("k")).isNull();
+        assertThat(cache.get("otra")).isNull();
+    }
+
+    @Test
+    void constructor_withInvalidLimits_shouldBeRejected() {
+        assertThatThrownBy(() -> stringCache(0, 1_024))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> stringCache(10, OffHeapCache.HEADER_BYTES - 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // ==================== BinaryCodec Tests ====================
+
+    @Test
+    void expensiveResultCodec_shouldRoundTripUtf8Data() {
+        var result = new StableValuesDemo.ExpensiveResult("resultado-€-😀", -7);
+
+        assertThat(roundTrip(BinaryCodec.EXPENSIVE_RESULT, result)).isEqualTo(result);
+        assertThat(BinaryCodec.EXPENSIVE_RESULT.encode(result).byteSize())
+                .isEqualTo(Integer.BYTES + "resultado-€-😀".getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    private static <T> T roundTrip(BinaryCodec<T> codec, T value) {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment encoded = codec.encode(value);
+            int size = (int) encoded.byteSize();
+            // Desplazamiento impar: los codecs no pueden depender de la alineación
+            MemorySegment segment = arena.allocate(size + 3);
+            MemorySegment.copy(encoded, 0, segment, 3, size);
+            return codec.read(segment, 3, size);
+        }
+    }
+
+    private static OffHeapCache<String, String> stringCache(int maxEntries, long maxBytes) {
+        return new OffHeapCache<>(BinaryCodec.STRING, BinaryCodec.STRING, maxEntries, maxBytes);
+    }
+}
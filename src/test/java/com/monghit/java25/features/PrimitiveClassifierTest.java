@@ -0,0 +1,94 @@
+package com.monghit.java25.features;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static com.monghit.java25.features.PrimitiveClassifier.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitarios para PrimitiveClassifier
+ */
+class PrimitiveClassifierTest {
+
+    // ==================== int Tests ====================
+
+    @Test
+    void classifyInt_shouldUseValidateNumberBuckets() {
+        assertThat(classify(-1)).isEqualTo(NEGATIVE);
+        assertThat(classify(Integer.MIN_VALUE)).isEqualTo(NEGATIVE);
+        assertThat(classify(0)).isEqualTo(ZERO);
+        assertThat(classify(1)).isEqualTo(SMALL_POSITIVE);
+        assertThat(classify(100)).isEqualTo(SMALL_POSITIVE);
+        assertThat(classify(101)).isEqualTo(LARGE_POSITIVE);
+        assertThat(classify(Integer.MAX_VALUE)).isEqualTo(LARGE_POSITIVE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-50, 0, 50, 150})
+    void describe_shouldMatchValidateNumber(int value) {
+        String expected = new PrimitivePatternMatchingDemo().validateNumber(value);
+
+        assertThat(describe(classify(value))).isEqualTo(expected);
+    }
+
+    // ==================== long Tests ====================
+
+    @Test
+    void classifyLong_shouldOnlyMatchValuesThatFitInInt() {
+        assertThat(classify(42L)).isEqualTo(SMALL_POSITIVE);
+        assertThat(classify((long) Integer.MIN_VALUE)).isEqualTo(NEGATIVE);
+        assertThat(classify(Integer.MAX_VALUE + 1L)).isEqualTo(NOT_AN_INT);
+        assertThat(classify(Long.MIN_VALUE)).isEqualTo(NOT_AN_INT);
+    }
+
+    // ==================== double Tests ====================
+
+    @Test
+    void classifyDouble_shouldOnlyMatchExactIntegers() {
+        assertThat(classify(0.0)).isEqualTo(ZERO);
+        assertThat(classify(500.0)).isEqualTo(LARGE_POSITIVE);
+        assertThat(classify(-3.0)).isEqualTo(NEGATIVE);
+        assertThat(classify(3.5)).isEqualTo(NOT_AN_INT);
+        assertThat(classify(-0.0)).isEqualTo(NOT_AN_INT);
+        assertThat(classify(Double.NaN)).isEqualTo(NOT_AN_INT);
+        assertThat(classify(Double.POSITIVE_INFINITY)).isEqualTo(NOT_AN_INT);
+        assertThat(classify(1e10)).isEqualTo(NOT_AN_INT);
+    }
+
+    // ==================== Arrays Tests ====================
+
+    @Test
+    void classifyArrays_shouldWriteCodesAndCounts() {
+        byte[] codes = new byte[6];
+        long[] counts = new long[CODES];
+
+        classify(new int[]{-7, 0, 5, 100, 101, 9_999}, codes, counts);
+
+        assertThat(codes).containsExactly(NEGATIVE, ZERO, SMALL_POSITIVE, SMALL_POSITIVE,
+                LARGE_POSITIVE, LARGE_POSITIVE);
+        assertThat(counts).containsExactly(1, 1, 2, 2, 0);
+    }
+
+    @Test
+    void classifyArrays_shouldAccumulateAcrossColumns() {
+        byte[] codes = new byte[3];
+        long[] counts = new long[CODES];
+
+        classify(new long[]{1L, Long.MAX_VALUE, -1L}, codes, counts);
+        classify(new double[]{2.0, 2.5, 0.0}, codes, counts);
+
+        assertThat(codes).containsExactly(SMALL_POSITIVE, NOT_AN_INT, ZERO);
+        assertThat(counts).containsExactly(1, 1, 2, 0, 2);
+    }
+
+    @Test
+    void classifyArrays_shouldRejectShortBuffers() {
+        assertThatThrownBy(() -> classify(new int[]{1, 2}, new byte[1], new long[CODES]))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> classify(new int[]{1}, new byte[1], new long[2]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -151,6 +151,21 @@ class PrimitivePatternMatchingDemoTest {
         );
     }
 
+    // ==================== strictConvertToInt Tests ====================
+
+    @Test
+    void strictConvertToInt_shouldReportLossyDouble() {
+        var result = demo.strictConvertToInt(3.14);
+        assertThat(result.value()).isEqualTo(3);
+        assertThat(result.outcome()).isEqualTo(StrictIntConverter.Outcome.LOSSY);
+    }
+
+    @Test
+    void strictConvertToInt_withInvalidString_shouldFailWithoutException() {
+        var result = demo.strictConvertToInt("abc");
+        assertThat(result.outcome()).isEqualTo(StrictIntConverter.Outcome.FAILED);
+    }
+
     // ==================== validateNumber Tests ====================
 
     @Test
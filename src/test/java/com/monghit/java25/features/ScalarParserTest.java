@@ -0,0 +1,75 @@
+package com.monghit.java25.features;
+
+import com.monghit.java25.features.ScalarParser.Parsed;
+import com.monghit.java25.features.ScalarParser.Status;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitarios para ScalarParser
+ */
+class ScalarParserTest {
+
+    // ==================== Números Tests ====================
+
+    @Test
+    void parse_shouldUseNarrowestNumericType() {
+        assertThat(parse("42")).isEqualTo(new Parsed(Status.OK, 42));
+        assertThat(parse(" -7\n")).isEqualTo(new Parsed(Status.OK, -7));
+        assertThat(parse("2147483648")).isEqualTo(new Parsed(Status.OK, 2_147_483_648L));
+        assertThat(parse("-9223372036854775808")).isEqualTo(new Parsed(Status.OK, Long.MIN_VALUE));
+        assertThat(parse("9223372036854775808")).isEqualTo(new Parsed(Status.OK, 9.223372036854775808E18));
+        assertThat(parse("12.5")).isEqualTo(new Parsed(Status.OK, 12.5));
+        assertThat(parse("1e3")).isEqualTo(new Parsed(Status.OK, 1000.0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"12abc", "-", "1.", ".5", "--1", "1e", "1e+", "+1", "0x10", "tru", "nulll", "\"abc", "\"a\"b\""})
+    void parse_withMalformedInput_shouldReturnStatusWithoutException(String input) {
+        Parsed parsed = parse(input);
+
+        assertThat(parsed.status()).isEqualTo(Status.MALFORMED);
+        assertThat(parsed.isOk()).isFalse();
+        assertThat(parsed.value()).isNull();
+    }
+
+    // ==================== Strings y literales Tests ====================
+
+    @Test
+    void parse_shouldDecodeStringsAndLiterals() {
+        assertThat(parse("\"42\"")).isEqualTo(new Parsed(Status.OK, "42"));
+        assertThat(parse("\"a\\\"b\\u00e1\"")).isEqualTo(new Parsed(Status.OK, "a\"bá"));
+        assertThat(parse("\"año\"")).isEqualTo(new Parsed(Status.OK, "año"));
+        assertThat(parse("true")).isEqualTo(new Parsed(Status.OK, true));
+        assertThat(parse("false")).isEqualTo(new Parsed(Status.OK, false));
+        assertThat(parse("null")).isEqualTo(new Parsed(Status.OK, null));
+    }
+
+    // ==================== Estados Tests ====================
+
+    @Test
+    void parse_shouldReportEmptyAndUnsupportedBodies() {
+        assertThat(ScalarParser.parse(null).status()).isEqualTo(Status.EMPTY);
+        assertThat(parse("").status()).isEqualTo(Status.EMPTY);
+        assertThat(parse(" \r\n").status()).isEqualTo(Status.EMPTY);
+        assertThat(parse("{\"a\": 1}").status()).isEqualTo(Status.UNSUPPORTED);
+        assertThat(parse("[1, 2]").status()).isEqualTo(Status.UNSUPPORTED);
+    }
+
+    @Test
+    void parse_shouldHonourRange() {
+        byte[] bytes = "[17, 25]".getBytes(StandardCharsets.US_ASCII);
+
+        assertThat(ScalarParser.parse(bytes, 1, 3)).isEqualTo(new Parsed(Status.OK, 17));
+        assertThat(ScalarParser.parse(bytes, 4, 7)).isEqualTo(new Parsed(Status.OK, 25));
+    }
+
+    private static Parsed parse(String json) {
+        return ScalarParser.parse(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Tests unitarios para ScopedValuesDemo
@@ -40,6 +41,22 @@ class ScopedValuesDemoTest {
                 .contains("org-abc");
     }
 
+    // ==================== processWithContextCarrier Tests ====================
+
+    @Test
+    void processWithContextCarrier_shouldMatchProcessWithContext() {
+        String carrier = demo.processWithContextCarrier("user123", "req456", "tenant789");
+
+        assertThat(carrier).isEqualTo(demo.processWithContext("user123", "req456", "tenant789"));
+    }
+
+    @Test
+    void processWithContextCarrier_shouldNotLeakBinding() {
+        demo.processWithContextCarrier("user", "req", "tenant");
+
+        assertThat(RequestContext.CURRENT.isBound()).isFalse();
+    }
+
     // ==================== processWithConcurrency Tests ====================
 
     @Test
@@ -64,6 +81,53 @@ class ScopedValuesDemoTest {
                 .contains("|");
     }
 
+    @Test
+    void processWithConcurrency_shouldPropagateUserIdToEveryChildInForkOrder() throws Exception {
+        String result = demo.processWithConcurrency("alice", 3);
+
+        assertThat(result).isEqualTo(
+                "Task 1 ejecutada por: alice | Task 2 ejecutada por: alice | Task 3 ejecutada por: alice");
+    }
+
+    @Test
+    void processWithConcurrency_withInvalidChildren_shouldThrow() {
+        assertThatThrownBy(() -> demo.processWithConcurrency("alice", 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> demo.processWithConcurrency("alice", ScopedValuesDemo.MAX_CHILDREN + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void verifyInheritance_shouldSeeBindingInThousandsOfSubtasks() throws Exception {
+        ScopedValuesDemo.InheritanceReport report = demo.verifyInheritance("bob", ScopedValuesDemo.MAX_CHILDREN);
+
+        assertThat(report.children()).isEqualTo(ScopedValuesDemo.MAX_CHILDREN);
+        assertThat(report.inherited()).isEqualTo(ScopedValuesDemo.MAX_CHILDREN);
+        assertThat(report.mismatched()).isZero();
+        assertThat(report.unbound()).isZero();
+    }
+
+    // ==================== describeRequestContext Tests ====================
+
+    @Test
+    void describeRequestContext_shouldSeeContextInForkedSubtask() throws Exception {
+        RequestContext context = new RequestContext("req-1", "alice", "acme");
+
+        String result = ScopedValue.where(RequestContext.CURRENT, context)
+                .call(() -> demo.describeRequestContext());
+
+        assertThat(result)
+                .contains("Request: req-1")
+                .contains("User: alice")
+                .contains("Tenant: acme")
+                .contains("Subtarea: mismo contexto");
+    }
+
+    @Test
+    void describeRequestContext_withoutBinding_shouldReportMissingContext() throws Exception {
+        assertThat(demo.describeRequestContext()).isEqualTo("Sin contexto de petición");
+    }
+
     // ==================== getUserIdOrDefault Tests ====================
 
     @Test
@@ -0,0 +1,161 @@
+package com.monghit.java25.features;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.StructuredTaskScope.Subtask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitarios para SingleFlight
+ */
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> flights = new SingleFlight<>("test");
+
+    // ==================== Coalescencia Tests ====================
+
+    @Test
+    void concurrentCallsWithSameKey_shouldShareOneExecution() throws Exception {
+        int callers = 200;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (var scope = StructuredTaskScope.open()) {
+            List<Subtask<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(scope.fork(() -> flights.execute("user-1", () -> {
+                    loads.incrementAndGet();
+                    release.await();
+                    return "Profile-user-1";
+                })));
+            }
+            while (flights.stats().shared() < callers - 1) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+            scope.join();
+
+            assertThat(results).allSatisfy(result -> assertThat(result.get()).isEqualTo("Profile-user-1"));
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(flights.stats().executions()).isEqualTo(1);
+        assertThat(flights.inFlight()).isZero();
+    }
+
+    @Test
+    void callAfterCompletion_shouldExecuteAgain() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+
+        flights.execute("user-1", () -> "v" + loads.incrementAndGet());
+        String second = flights.execute("user-1", () -> "v" + loads.incrementAndGet());
+
+        assertThat(second).isEqualTo("v2");
+    }
+
+    @Test
+    void failure_shouldPropagateToEveryWaiter() {
+        assertThatThrownBy(() -> flights.execute("user-1", () -> {
+            throw new IllegalStateException("backend caído");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("backend caído");
+
+        assertThat(flights.inFlight()).isZero();
+    }
+
+    // ==================== Cancelación Tests ====================
+
+    @Test
+    void whenEveryWaiterLeaves_shouldInterruptTheLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        List<Thread> waiters = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            waiters.add(Thread.ofVirtual().start(() -> {
+                try {
+                    flights.execute("user-1", () -> {
+                        loading.countDown();
+                        try {
+                            Thread.sleep(10_000);
+                        } catch (InterruptedException e) {
+                            interrupted.countDown();
+                            throw e;
+                        }
+                        return "nunca";
+                    });
+                } catch (Exception ignored) {
+                    // Interrumpido a propósito
+                }
+            }));
+        }
+        loading.await();
+        while (flights.stats().shared() < 2) {
+            Thread.sleep(1);
+        }
+
+        for (Thread waiter : waiters) {
+            waiter.interrupt();
+            waiter.join();
+        }
+
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(flights.stats().cancelled()).isEqualTo(1);
+        assertThat(flights.inFlight()).isZero();
+        assertThat(flights.execute("user-1", () -> "nueva carga")).isEqualTo("nueva carga");
+    }
+
+    @Test
+    void whenOnlySomeWaitersLeave_shouldKeepLoadingForTheRest() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean loadInterrupted = new AtomicBoolean();
+        AtomicReference<String> survivor = new AtomicReference<>();
+
+        Thread leaving = Thread.ofVirtual().start(() -> {
+            try {
+                flights.execute("user-1", () -> {
+                    loading.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        loadInterrupted.set(true);
+                        throw e;
+                    }
+                    return "Profile-user-1";
+                });
+            } catch (Exception ignored) {
+                // Interrumpido a propósito
+            }
+        });
+        loading.await();
+        Thread staying = Thread.ofVirtual().start(() -> {
+            try {
+                survivor.set(flights.execute("user-1", () -> "segunda carga"));
+            } catch (Exception e) {
+                survivor.set("error: " + e);
+            }
+        });
+        while (flights.stats().shared() < 1) {
+            Thread.sleep(1);
+        }
+
+        leaving.interrupt();
+        leaving.join();
+        release.countDown();
+        staying.join();
+
+        assertThat(survivor.get()).isEqualTo("Profile-user-1");
+        assertThat(loadInterrupted).isFalse();
+        assertThat(flights.stats().cancelled()).isZero();
+    }
+}
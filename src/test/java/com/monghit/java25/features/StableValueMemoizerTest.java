@@ -0,0 +1,121 @@
+package com.monghit.java25.features;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitarios para StableValueMemoizer
+ */
+class StableValueMemoizerTest {
+
+    @Test
+    void get_shouldComputeOncePerKey() {
+        AtomicInteger calls = new AtomicInteger();
+        var memoizer = new StableValueMemoizer<String, String>(key -> {
+            calls.incrementAndGet();
+            return "value-" + key;
+        }, 10);
+
+        assertThat(memoizer.get("a")).isEqualTo("value-a");
+        assertThat(memoizer.get("a")).isEqualTo("value-a");
+        assertThat(memoizer.get("b")).isEqualTo("value-b");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void get_concurrentCallersShouldShareOneComputation() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        var memoizer = new StableValueMemoizer<String, String>(key -> {
+            calls.incrementAndGet();
+            sleep(100);
+            return "value-" + key;
+        }, 10);
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        List<String> results = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < 50; i++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                results.add(memoizer.get("hot"));
+            }));
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(calls).hasValue(1);
+        assertThat(results).hasSize(50).containsOnly("value-hot");
+    }
+
+    @Test
+    void get_shouldStayWithinMaxEntries() {
+        var memoizer = new StableValueMemoizer<Integer, Integer>(key -> key * 2, 3);
+
+        for (int i = 0; i < 10; i++) {
+            memoizer.get(i);
+        }
+
+        assertThat(memoizer.size()).isEqualTo(3);
+    }
+
+    @Test
+    void get_whenComputationFails_shouldRetryOnNextCall() {
+        AtomicInteger calls = new AtomicInteger();
+        var memoizer = new StableValueMemoizer<String, String>(key -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("fallo transitorio");
+            }
+            return "ok";
+        }, 10);
+
+        assertThatThrownBy(() -> memoizer.get("k")).isInstanceOf(IllegalStateException.class);
+        assertThat(memoizer.get("k")).isEqualTo("ok");
+    }
+
+    @Test
+    void get_withOffHeapStore_shouldComputeOnceAndServeFromStore() {
+        AtomicInteger calls = new AtomicInteger();
+        try (var memoizer = new StableValueMemoizer<String, StableValuesDemo.ExpensiveResult>(key -> {
+            calls.incrementAndGet();
+            return new StableValuesDemo.ExpensiveResult("resultado-" + key, 42);
+        }, new OffHeapCache<>(BinaryCodec.STRING, BinaryCodec.EXPENSIVE_RESULT, 2, 4_096))) {
+
+            assertThat(memoizer.get("a").data()).isEqualTo("resultado-a");
+            assertThat(memoizer.get("a").data()).isEqualTo("resultado-a");
+            memoizer.get("b");
+            memoizer.get("c");
+
+            assertThat(calls).hasValue(3);
+            assertThat(memoizer.size()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void constructor_withInvalidMaxEntries_shouldBeRejected() {
+        assertThatThrownBy(() -> new StableValueMemoizer<String, String>(key -> key, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
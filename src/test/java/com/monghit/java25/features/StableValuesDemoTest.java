@@ -1,9 +1,19 @@
 package com.monghit.java25.features;
 
+import com.monghit.java25.jfr.StableValueInitializedEvent;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Tests unitarios para StableValuesDemo
@@ -47,6 +57,26 @@ class StableValuesDemoTest {
         assertThat(parts[parts.length - 1]).matches("\\d+");
     }
 
+    @Test
+    void getLazyConfig_shouldEmitInitializationEventOnlyOnce() throws Exception {
+        Path file = Files.createTempFile("stable-values", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(StableValueInitializedEvent.class);
+            recording.start();
+            demo.getLazyConfig();
+            demo.getLazyConfig();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.deleteIfExists(file);
+
+        assertThat(events)
+                .filteredOn(event -> "lazyConfig".equals(event.getString("name")))
+                .hasSize(1);
+    }
+
     // ==================== getConnection Tests ====================
 
     @Test
@@ -95,11 +125,46 @@ class StableValuesDemoTest {
         assertThat(result1.data()).isEqualTo("resultado-complejo");
         assertThat(result1.value()).isEqualTo(42);
 
-        // Segunda llamada - los StableValues locales crean nuevas instancias
-        // pero mantienen el mismo valor conceptual
+        // Segunda llamada - el resultado memoizado se reutiliza sin recalcular: cada
+        // cálculo crea una instancia nueva, así que recalcular rompería la identidad
         StableValuesDemo.ExpensiveResult result2 = demo.getExpensiveResult();
-        assertThat(result2.data()).isEqualTo(result1.data());
-        assertThat(result2.value()).isEqualTo(result1.value());
+
+        assertThat(result2).isSameAs(result1);
+    }
+
+    @Test
+    void getExpensiveResult_withKey_shouldMemoizePerKey() {
+        StableValuesDemo.ExpensiveResult alpha = demo.getExpensiveResult("alpha");
+        StableValuesDemo.ExpensiveResult beta = demo.getExpensiveResult("beta");
+
+        assertThat(alpha.data()).isEqualTo("resultado-alpha");
+        assertThat(beta.data()).isEqualTo("resultado-beta");
+        assertThat(demo.getExpensiveResult("alpha")).isSameAs(alpha);
+    }
+
+    @Test
+    void getExpensiveResult_withOffHeapStore_shouldServeEqualCopies() {
+        var store = new OffHeapCache<>(BinaryCodec.STRING, BinaryCodec.EXPENSIVE_RESULT, 1_000, 64 * 1024);
+        var offHeapDemo = new StableValuesDemo(store);
+        try {
+            StableValuesDemo.ExpensiveResult first = offHeapDemo.getExpensiveResult("alpha");
+
+            StableValuesDemo.ExpensiveResult second = offHeapDemo.getExpensiveResult("alpha");
+
+            // La segunda llamada se sirve del almacén (una copia decodificada) sin recalcular
+            assertThat(second).isEqualTo(first).isNotSameAs(first);
+            assertThat(store.stats().entries()).isEqualTo(1);
+            assertThat(store.stats().hits()).isEqualTo(1);
+        } finally {
+            offHeapDemo.destroy();
+        }
+    }
+
+    @Test
+    void constructor_withUnknownStore_shouldBeRejected() {
+        assertThatThrownBy(() -> new StableValuesDemo("disk", 1_000, DataSize.ofKilobytes(64)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("java25.memo.store");
     }
 
     // ==================== demonstrateThreadSafety Tests ====================
@@ -111,6 +176,42 @@ class StableValuesDemoTest {
         });
     }
 
+    // ==================== compareWithTraditionalApproaches Tests ====================
+
+    @Test
+    void compareWithTraditionalApproaches_shouldMeasureEveryStrategy() throws Exception {
+        StableValueComparison.ComparisonReport report = demo.compareWithTraditionalApproaches(4, 1_000);
+
+        assertThat(report.threads()).isEqualTo(4);
+        assertThat(report.results())
+                .extracting(StableValueComparison.StrategyResult::strategy)
+                .containsExactly("volatile", "double-checked-locking",
+                        "stable-value-instance", "stable-value-static-final");
+        assertThat(report.results())
+                .allSatisfy(result -> assertThat(result.nanosPerRead()).isPositive());
+    }
+
+    @Test
+    void compareWithTraditionalApproaches_lazyStrategiesShouldInitializeOnceUnderContention() throws Exception {
+        StableValueComparison.ComparisonReport report = demo.compareWithTraditionalApproaches(8, 100);
+
+        assertThat(report.results())
+                .filteredOn(result -> !result.strategy().equals("stable-value-static-final"))
+                .allSatisfy(result -> assertThat(result.initializations()).isEqualTo(1));
+    }
+
+    @Test
+    void compareWithTraditionalApproaches_withInvalidArguments_shouldBeRejected() {
+        org.junit.jupiter.api.Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> demo.compareWithTraditionalApproaches(0, 100)
+        );
+        org.junit.jupiter.api.Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> demo.compareWithTraditionalApproaches(StableValueComparison.MAX_THREADS + 1, 100)
+        );
+    }
+
     // ==================== Record Tests ====================
 
     @Test
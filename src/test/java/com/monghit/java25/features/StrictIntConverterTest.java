@@ -0,0 +1,87 @@
+package com.monghit.java25.features;
+
+import com.monghit.java25.features.StrictIntConverter.Conversion;
+import com.monghit.java25.features.StrictIntConverter.Outcome;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitarios para StrictIntConverter
+ */
+class StrictIntConverterTest {
+
+    // ==================== Números Tests ====================
+
+    @Test
+    void convertLong_shouldBeLosslessOnlyInsideIntRange() {
+        assertThat(conversion(100L)).isEqualTo(new Conversion(100, Outcome.LOSSLESS));
+        assertThat(conversion((long) Integer.MIN_VALUE)).isEqualTo(new Conversion(Integer.MIN_VALUE, Outcome.LOSSLESS));
+        assertThat(conversion(Integer.MAX_VALUE + 1L)).isEqualTo(new Conversion(Integer.MIN_VALUE, Outcome.LOSSY));
+    }
+
+    @Test
+    void convertDouble_shouldReportTruncation() {
+        assertThat(conversion(42.0)).isEqualTo(new Conversion(42, Outcome.LOSSLESS));
+        assertThat(conversion(3.99)).isEqualTo(new Conversion(3, Outcome.LOSSY));
+        assertThat(conversion(-0.0)).isEqualTo(new Conversion(0, Outcome.LOSSY));
+        assertThat(conversion(1e12)).isEqualTo(new Conversion(Integer.MAX_VALUE, Outcome.LOSSY));
+        assertThat(conversion(Double.NaN).outcome()).isEqualTo(Outcome.FAILED);
+        assertThat(conversion(Double.NEGATIVE_INFINITY).outcome()).isEqualTo(Outcome.FAILED);
+    }
+
+    @ParameterizedTest
+    @MethodSource("numericValues")
+    void lossyValues_shouldMatchSafeConvertToInt(Object value) {
+        int expected = new PrimitivePatternMatchingDemo().safeConvertToInt(value);
+
+        assertThat(conversion(value).value()).isEqualTo(expected);
+    }
+
+    static Stream<Arguments> numericValues() {
+        return Stream.of(
+                Arguments.of(7),
+                Arguments.of(9_999_999_999L),
+                Arguments.of(-2.75),
+                Arguments.of(3e9),
+                Arguments.of("12345")
+        );
+    }
+
+    // ==================== Strings Tests ====================
+
+    @Test
+    void convertString_shouldParseWithoutExceptions() {
+        assertThat(conversion("123")).isEqualTo(new Conversion(123, Outcome.LOSSLESS));
+        assertThat(conversion("+7")).isEqualTo(new Conversion(7, Outcome.LOSSLESS));
+        assertThat(conversion("-2147483648")).isEqualTo(new Conversion(Integer.MIN_VALUE, Outcome.LOSSLESS));
+        assertThat(conversion("12.000")).isEqualTo(new Conversion(12, Outcome.LOSSLESS));
+        assertThat(conversion("12.50")).isEqualTo(new Conversion(12, Outcome.LOSSY));
+        assertThat(conversion("-0.5")).isEqualTo(new Conversion(0, Outcome.LOSSY));
+        assertThat(conversion("2147483648")).isEqualTo(new Conversion(Integer.MIN_VALUE, Outcome.LOSSY));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "abc", "-", "12a", "1e5", " 12", "12.", ".5", "1.2.3", "99999999999999999999"})
+    void convertString_withInvalidInput_shouldFail(String input) {
+        assertThat(conversion(input)).isEqualTo(new Conversion(0, Outcome.FAILED));
+    }
+
+    // ==================== Objetos Tests ====================
+
+    @Test
+    void convertObject_shouldFailForNullAndUnsupportedTypes() {
+        assertThat(conversion(null).outcome()).isEqualTo(Outcome.FAILED);
+        assertThat(conversion(true).outcome()).isEqualTo(Outcome.FAILED);
+    }
+
+    private static Conversion conversion(Object value) {
+        return Conversion.of(StrictIntConverter.convert(value));
+    }
+}
@@ -3,7 +3,20 @@ package com.monghit.java25.features;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
 
 /**
  * Tests unitarios para StructuredConcurrencyDemo
@@ -50,6 +63,39 @@ class StructuredConcurrencyDemoTest {
         assertThat(result1).doesNotContain("bob");
     }
 
+    @Test
+    void fetchUserDataWithFailure_shouldRunFetchesInParallel() throws Exception {
+        // Cada consulta espera a las otras dos: en secuencia la primera nunca pasaría la barrera
+        var barrier = new CyclicBarrier(3);
+        var parallel = new StructuredConcurrencyDemo(AdaptiveConcurrencyLimiter.Settings.DEFAULT,
+                (backend, millis) -> awaitOthers(barrier));
+
+        String result = parallel.fetchUserDataWithFailure("parallelUser");
+
+        assertThat(result).isEqualTo(
+                "User: Profile-parallelUser, Orders: Orders-parallelUser, Preferences: Preferences-parallelUser");
+    }
+
+    @Test
+    void fetchUserDataWithFailure_shouldServeRepeatedUserFromCache() throws Exception {
+        var queried = new ConcurrentLinkedQueue<String>();
+        var cached = new StructuredConcurrencyDemo(AdaptiveConcurrencyLimiter.Settings.DEFAULT,
+                (backend, millis) -> queried.add(backend));
+        String first = cached.fetchUserDataWithFailure("cachedUser");
+
+        String second = cached.fetchUserDataWithFailure("cachedUser");
+
+        // Solo la primera petición llega a los backends
+        assertThat(second).isEqualTo(first);
+        assertThat(queried).containsExactlyInAnyOrder("profile", "orders", "preferences");
+        assertThat(cached.userDataCacheStats())
+                .containsOnlyKeys("orders", "preferences", "profile")
+                .allSatisfy((name, stats) -> {
+                    assertThat(stats.hits()).isEqualTo(1);
+                    assertThat(stats.misses()).isEqualTo(1);
+                });
+    }
+
     // ==================== fetchFromMultipleSources Tests ====================
 
     @Test
@@ -70,6 +116,37 @@ class StructuredConcurrencyDemoTest {
         assertThat(result2).contains("query2");
     }
 
+    @Test
+    void fetchFromMultipleSources_withoutHedgingDelay_shouldReturnFastestSource() throws Exception {
+        var policy = new StructuredConcurrencyDemo.HedgingPolicy(Duration.ZERO, Duration.ZERO);
+
+        String result = demo.fetchFromMultipleSources("race", policy);
+
+        assertThat(result).isEqualTo("Cache-Result: race");
+    }
+
+    @Test
+    void fetchFromMultipleSources_shouldNotWaitForSlowerSources() throws Exception {
+        var queried = new ConcurrentLinkedQueue<String>();
+        var racing = new StructuredConcurrencyDemo(AdaptiveConcurrencyLimiter.Settings.DEFAULT,
+                (backend, millis) -> queried.add(backend));
+
+        String result = racing.fetchFromMultipleSources("fast");
+
+        // La caché gana antes de que venza el hedging: DB y API no llegan a consultarse
+        assertThat(result).isEqualTo("Cache-Result: fast");
+        assertThat(queried).containsExactly("cache");
+        assertThat(racing.backendStats().get("database").accepted()).isZero();
+        assertThat(racing.backendStats().get("api").accepted()).isZero();
+    }
+
+    @Test
+    void hedgingPolicy_withNegativeDelay_shouldBeRejected() {
+        assertThatThrownBy(() -> new StructuredConcurrencyDemo.HedgingPolicy(
+                Duration.ofMillis(-1), Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     // ==================== fetchWithTimeout Tests ====================
 
     @Test
@@ -92,6 +169,75 @@ class StructuredConcurrencyDemoTest {
         assertThat(parts[1].trim()).startsWith("SlowOp2");
     }
 
+    @Test
+    void fetchWithTimeout_shouldRunOperationsInParallel() throws Exception {
+        // Cada operación espera a la otra: en secuencia la primera nunca pasaría la barrera
+        var barrier = new CyclicBarrier(2);
+        var parallel = new StructuredConcurrencyDemo(AdaptiveConcurrencyLimiter.Settings.DEFAULT,
+                (backend, millis) -> awaitOthers(barrier));
+
+        String result = parallel.fetchWithTimeout("parallel");
+
+        assertThat(result).isEqualTo("SlowOp1-parallel | SlowOp2-parallel");
+    }
+
+    @Test
+    void fetchWithTimeout_withDeadline_shouldReturnPartialResults() throws Exception {
+        // slowOperation2 no termina nunca por sí sola: solo el deadline puede desbloquearla
+        var cancelled = new AtomicBoolean();
+        var partial = new StructuredConcurrencyDemo(AdaptiveConcurrencyLimiter.Settings.DEFAULT,
+                (backend, millis) -> {
+                    if (backend.equals("slowOperation2")) {
+                        try {
+                            new CountDownLatch(1).await();
+                        } catch (InterruptedException e) {
+                            cancelled.set(true);
+                            throw e;
+                        }
+                    }
+                });
+
+        String result = partial.fetchWithTimeout("user789", Duration.ofMillis(500));
+
+        assertThat(result).isEqualTo("SlowOp1-user789 | [timeout] slowOperation2");
+        assertThat(cancelled).isTrue();
+    }
+
+    @Test
+    void fetchWithTimeout_withExpiredDeadline_shouldMarkEverythingAsTimedOut() throws Exception {
+        String result = demo.fetchWithTimeout("user789", Duration.ZERO);
+
+        assertThat(result).isEqualTo("[timeout] slowOperation1 | [timeout] slowOperation2");
+    }
+
+    @Test
+    void fetchWithTimeout_beyondBackendLimit_shouldRejectImmediately() throws Exception {
+        // La primera petición ocupa el único permiso de cada backend hasta que se libere
+        var entered = new CountDownLatch(2);
+        var release = new CountDownLatch(1);
+        var limited = new StructuredConcurrencyDemo(new AdaptiveConcurrencyLimiter.Settings(1, 1, 1, 2.0, 0.9),
+                (backend, millis) -> {
+                    entered.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                });
+        Thread first = Thread.ofVirtual().start(() -> {
+            try {
+                limited.fetchWithTimeout("first");
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        entered.await();
+
+        // Sin permisos libres se rechaza sin pasar por el backend (que seguiría bloqueado)
+        String result = limited.fetchWithTimeout("second");
+        release.countDown();
+        first.join();
+
+        assertThat(result).isEqualTo("[overloaded] slowOperation1 | [overloaded] slowOperation2");
+        assertThat(limited.backendStats().get("slowOperation1").rejected()).isEqualTo(1);
+    }
+
     // ==================== processWithVirtualThreads Tests ====================
 
     @Test
@@ -123,6 +269,30 @@ class StructuredConcurrencyDemoTest {
         assertThat(result2).contains("input2");
     }
 
+    // ==================== processBatch Tests ====================
+
+    @Test
+    void processBatch_shouldKeepInputOrderAcrossBatches() throws Exception {
+        List<String> items = IntStream.range(0, 1000).mapToObj(i -> "item" + i).toList();
+
+        List<String> results = demo.processBatch(items, 64);
+
+        assertThat(results).hasSize(1000);
+        assertThat(results.get(0)).isEqualTo("[Processed1-item0, Processed2-item0, Processed3-item0]");
+        assertThat(results.get(999)).contains("Processed3-item999");
+    }
+
+    @Test
+    void processBatch_withEmptyList_shouldReturnEmptyList() throws Exception {
+        assertThat(demo.processBatch(List.of())).isEmpty();
+    }
+
+    @Test
+    void processBatch_withInvalidBatchSize_shouldBeRejected() {
+        assertThatThrownBy(() -> demo.processBatch(List.of("a"), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     // ==================== aggregateData Tests ====================
 
     @Test
@@ -130,20 +300,47 @@ class StructuredConcurrencyDemoTest {
         StructuredConcurrencyDemo.Summary summary = demo.aggregateData("testCategory");
 
         assertThat(summary).isNotNull();
-        assertThat(summary.count()).isEqualTo(42);
-        assertThat(summary.sum()).isEqualTo(1234.56);
-        assertThat(summary.average()).isEqualTo(29.39);
+        assertThat(summary.count()).isEqualTo(StructuredConcurrencyDemo.CATEGORY_ROWS);
+        assertThat(summary.average()).isCloseTo(499.5, within(2.0));
         assertThat(summary.max()).isEqualTo(999);
     }
 
+    @Test
+    void aggregateData_shouldDeriveAverageFromSumAndCount() throws Exception {
+        StructuredConcurrencyDemo.Summary summary = demo.aggregateData("derived");
+
+        assertThat(summary.average()).isEqualTo(summary.sum() / summary.count());
+    }
+
+    @Test
+    void aggregateData_shouldNotDependOnPartitionCount() throws Exception {
+        StructuredConcurrencyDemo.Summary single = demo.aggregateData("sales", 1);
+        StructuredConcurrencyDemo.Summary partitioned = demo.aggregateData("sales", 7);
+
+        assertThat(partitioned).isEqualTo(single);
+    }
+
+    @Test
+    void aggregateData_withInvalidPartitions_shouldBeRejected() {
+        assertThatThrownBy(() -> demo.aggregateData("sales", 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void aggregateData_shouldReturnConsistentResults() throws Exception {
+        StructuredConcurrencyDemo.Summary first = demo.aggregateData("cat1");
+        StructuredConcurrencyDemo.Summary second = demo.aggregateData("cat1");
+
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    void aggregateData_shouldDependOnCategory() throws Exception {
         StructuredConcurrencyDemo.Summary summary1 = demo.aggregateData("cat1");
         StructuredConcurrencyDemo.Summary summary2 = demo.aggregateData("cat2");
 
-        // Los valores deberían ser los mismos (simulación)
         assertThat(summary1.count()).isEqualTo(summary2.count());
-        assertThat(summary1.sum()).isEqualTo(summary2.sum());
+        assertThat(summary1.sum()).isNotEqualTo(summary2.sum());
     }
 
     @Test
@@ -156,6 +353,30 @@ class StructuredConcurrencyDemoTest {
         assertThat(summary.max()).isPositive();
     }
 
+    // ==================== SummaryAccumulator Tests ====================
+
+    @Test
+    void summaryAccumulator_mergedPartials_shouldMatchSinglePass() {
+        var singlePass = new StructuredConcurrencyDemo.SummaryAccumulator();
+        var left = new StructuredConcurrencyDemo.SummaryAccumulator();
+        var right = new StructuredConcurrencyDemo.SummaryAccumulator();
+        int[] values = {5, -3, 12, 7, 0, 12};
+        for (int i = 0; i < values.length; i++) {
+            singlePass.add(values[i]);
+            (i < 3 ? left : right).add(values[i]);
+        }
+
+        assertThat(left.merge(right).toSummary())
+                .isEqualTo(singlePass.toSummary())
+                .isEqualTo(new StructuredConcurrencyDemo.Summary(6, 33.0, 5.5, 12));
+    }
+
+    @Test
+    void summaryAccumulator_whenEmpty_shouldReturnZeroSummary() {
+        assertThat(new StructuredConcurrencyDemo.SummaryAccumulator().toSummary())
+                .isEqualTo(new StructuredConcurrencyDemo.Summary(0, 0, 0, 0));
+    }
+
     // ==================== Record Tests ====================
 
     @Test
@@ -192,4 +413,12 @@ class StructuredConcurrencyDemoTest {
                 .contains("29.39")
                 .contains("999");
     }
+
+    private static void awaitOthers(CyclicBarrier barrier) throws InterruptedException {
+        try {
+            barrier.await(5, TimeUnit.SECONDS);
+        } catch (BrokenBarrierException | TimeoutException e) {
+            throw new IllegalStateException("Los backends no se ejecutaron a la vez", e);
+        }
+    }
 }
@@ -0,0 +1,104 @@
+package com.monghit.java25.features;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitarios para TenantBulkhead
+ */
+class TenantBulkheadTest {
+
+    // ==================== Aislamiento Tests ====================
+
+    @Test
+    void tryAcquire_shouldShedOnlyTheSaturatedTenant() {
+        TenantBulkhead bulkhead = new TenantBulkhead(true, 2, 0, Duration.ZERO, 16);
+
+        TenantBulkhead.Permit first = inTenant("noisy", bulkhead::tryAcquire);
+        TenantBulkhead.Permit second = inTenant("noisy", bulkhead::tryAcquire);
+
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+        assertThat(inTenant("noisy", bulkhead::tryAcquire)).isNull();
+        assertThat(inTenant("quiet", bulkhead::tryAcquire)).isNotNull();
+
+        first.close();
+        assertThat(inTenant("noisy", bulkhead::tryAcquire)).isNotNull();
+
+        TenantBulkhead.TenantStats noisy = bulkhead.stats().get("noisy");
+        assertThat(noisy.admitted()).isEqualTo(3);
+        assertThat(noisy.completed()).isEqualTo(1);
+        assertThat(noisy.rejected()).isEqualTo(1);
+        assertThat(noisy.inFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void tryAcquire_withoutTenant_shouldUseDefaultCompartment() {
+        TenantBulkhead bulkhead = new TenantBulkhead(true, 1, 0, Duration.ZERO, 16);
+
+        try (TenantBulkhead.Permit permit = bulkhead.tryAcquire()) {
+            assertThat(permit).isNotNull();
+        }
+
+        assertThat(bulkhead.stats()).containsOnlyKeys(TenantBulkhead.DEFAULT_TENANT);
+    }
+
+    @Test
+    void tryAcquire_beyondMaxTenants_shouldShareOverflowCompartment() {
+        TenantBulkhead bulkhead = new TenantBulkhead(true, 1, 0, Duration.ZERO, 2);
+
+        inTenant("a", bulkhead::tryAcquire).close();
+        inTenant("b", bulkhead::tryAcquire).close();
+        inTenant("c", bulkhead::tryAcquire).close();
+        inTenant("d", bulkhead::tryAcquire).close();
+
+        assertThat(bulkhead.stats()).containsOnlyKeys("a", "b", TenantBulkhead.OVERFLOW_TENANT);
+        assertThat(bulkhead.stats().get(TenantBulkhead.OVERFLOW_TENANT).admitted()).isEqualTo(2);
+    }
+
+    // ==================== Cola Tests ====================
+
+    @Test
+    void tryAcquire_shouldWaitInQueueForReleasedPermit() throws Exception {
+        TenantBulkhead bulkhead = new TenantBulkhead(true, 1, 1, Duration.ofSeconds(5), 16);
+        TenantBulkhead.Permit held = inTenant("acme", bulkhead::tryAcquire);
+        CountDownLatch acquired = new CountDownLatch(1);
+
+        Thread waiter = Thread.ofVirtual().start(() -> {
+            TenantBulkhead.Permit permit = inTenant("acme", bulkhead::tryAcquire);
+            if (permit != null) {
+                acquired.countDown();
+                permit.close();
+            }
+        });
+        while (bulkhead.stats().get("acme").queued() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // La cola (1) está llena: la siguiente petición se descarta sin esperar
+        assertThat(inTenant("acme", bulkhead::tryAcquire)).isNull();
+
+        held.close();
+        assertThat(acquired.await(5, TimeUnit.SECONDS)).isTrue();
+        waiter.join();
+    }
+
+    @Test
+    void tryAcquire_shouldShedWhenWaitExpires() {
+        TenantBulkhead bulkhead = new TenantBulkhead(true, 1, 4, Duration.ofMillis(20), 16);
+        TenantBulkhead.Permit held = inTenant("acme", bulkhead::tryAcquire);
+
+        assertThat(inTenant("acme", bulkhead::tryAcquire)).isNull();
+        assertThat(bulkhead.stats().get("acme").rejected()).isEqualTo(1);
+        held.close();
+    }
+
+    private static <T> T inTenant(String tenant, ScopedValue.CallableOp<T, RuntimeException> op) {
+        return ScopedValue.where(ScopedValuesDemo.TENANT_ID, tenant).call(op);
+    }
+}
@@ -0,0 +1,288 @@
+package com.monghit.java25.features;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitarios para TinyLfuCache
+ */
+class TinyLfuCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    // ==================== Carga Tests ====================
+
+    @Test
+    void get_shouldLoadOnceAndCountHitsAndMisses() throws Exception {
+        TinyLfuCache<String, String> cache = cache(1_000, Duration.ofMinutes(1), Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(cache.get("user-1", () -> "Profile-" + loads.incrementAndGet())).isEqualTo("Profile-1");
+        }
+
+        TinyLfuCache.CacheStats stats = cache.stats();
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(stats.hits()).isEqualTo(4);
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.hitRatio()).isEqualTo(0.8);
+    }
+
+    @Test
+    void get_whenLoaderFails_shouldNotCacheAndCountFailure() {
+        TinyLfuCache<String, String> cache = cache(1_000, Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+        assertThatThrownBy(() -> cache.get("user-1", () -> {
+            throw new IllegalStateException("caído");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.getIfPresent("user-1")).isNull();
+        assertThat(cache.stats().loadFailures()).isEqualTo(1);
+    }
+
+    // ==================== TTL Tests ====================
+
+    @Test
+    void entries_shouldExpireWithTheirOwnTtl() throws Exception {
+        TinyLfuCache<String, String> cache = cache(1_000, Duration.ofSeconds(10), Duration.ofSeconds(10));
+        cache.put("short", "a", Duration.ofSeconds(1));
+        cache.put("default", "b");
+
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+
+        assertThat(cache.getIfPresent("short")).isNull();
+        assertThat(cache.getIfPresent("default")).isEqualTo("b");
+        assertThat(cache.get("short", () -> "recargado")).isEqualTo("recargado");
+        assertThat(cache.stats().expirations()).isEqualTo(1);
+    }
+
+    @Test
+    void hitAfterRefreshAfter_shouldServeCurrentValueAndReloadInBackground() throws Exception {
+        // Las recargas se ejecutan en el propio hilo: sin esperas
+        TinyLfuCache<String, String> cache = inlineRefreshCache(1_000, Duration.ofSeconds(10), Duration.ofSeconds(8));
+        cache.put("user-1", "v1");
+        now.addAndGet(Duration.ofSeconds(9).toNanos());
+
+        String served = cache.get("user-1", () -> "v2");
+
+        assertThat(served).isEqualTo("v1");
+        assertThat(cache.stats().refreshes()).isEqualTo(1);
+        assertThat(cache.getIfPresent("user-1")).isEqualTo("v2");
+
+        // La recarga reinicia el TTL: pasado el TTL original sigue en caché
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertThat(cache.getIfPresent("user-1")).isEqualTo("v2");
+    }
+
+    @Test
+    void refreshOfInvalidatedKey_shouldNotResurrectIt() throws Exception {
+        TinyLfuCache<String, String> cache = inlineRefreshCache(1_000, Duration.ofSeconds(10), Duration.ofSeconds(8));
+        cache.put("user-1", "v1");
+        now.addAndGet(Duration.ofSeconds(9).toNanos());
+
+        // La clave se invalida mientras su recarga está en curso
+        String served = cache.get("user-1", () -> {
+            cache.invalidate("user-1");
+            return "v2";
+        });
+
+        assertThat(served).isEqualTo("v1");
+        assertThat(cache.getIfPresent("user-1")).isNull();
+        assertThat(cache.stats().refreshes()).isZero();
+        assertThat(cache.stats().entries()).isZero();
+    }
+
+    @Test
+    void refreshOfReplacedKey_shouldKeepTheNewerValue() throws Exception {
+        TinyLfuCache<String, String> cache = inlineRefreshCache(1_000, Duration.ofSeconds(10), Duration.ofSeconds(8));
+        cache.put("user-1", "v1");
+        now.addAndGet(Duration.ofSeconds(9).toNanos());
+
+        cache.get("user-1", () -> {
+            cache.invalidate("user-1");
+            cache.put("user-1", "escrito");
+            return "recargado";
+        });
+
+        assertThat(cache.getIfPresent("user-1")).isEqualTo("escrito");
+        assertThat(cache.stats().refreshes()).isZero();
+    }
+
+    // ==================== Admisión y peso Tests ====================
+
+    @Test
+    void totalWeight_shouldNeverExceedMaxWeight() {
+        TinyLfuCache<String, String> cache = cache(100, Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+        for (int i = 0; i < 1_000; i++) {
+            cache.put("k" + i, "v".repeat(i % 7));
+            assertThat(cache.stats().weight()).isLessThanOrEqualTo(100);
+        }
+        assertThat(cache.stats().evictions()).isPositive();
+    }
+
+    @Test
+    void entryHeavierThanMaxWeight_shouldNotBeCached() {
+        TinyLfuCache<String, String> cache = cache(100, Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+        cache.put("big", "x".repeat(200));
+
+        assertThat(cache.getIfPresent("big")).isNull();
+        assertThat(cache.stats().weight()).isZero();
+    }
+
+    @Test
+    void frequentKeys_shouldSurviveAScanOfOneHitKeys() throws Exception {
+        TinyLfuCache<String, String> cache = cache(200, Duration.ofMinutes(1), Duration.ofMinutes(1));
+        for (int round = 0; round < 10; round++) {
+            for (int hot = 0; hot < 10; hot++) {
+                cache.get("hot-" + hot, () -> "valor");
+            }
+        }
+
+        for (int i = 0; i < 5_000; i++) {
+            cache.get("scan-" + i, () -> "valor");
+        }
+
+        int hotSurvivors = 0;
+        for (int hot = 0; hot < 10; hot++) {
+            if (cache.getIfPresent("hot-" + hot) != null) {
+                hotSurvivors++;
+            }
+        }
+        assertThat(hotSurvivors).isEqualTo(10);
+    }
+
+    @Test
+    void overflowWithoutWindowCandidate_shouldEvictTheProbationLru() throws Exception {
+        // maxWeight 100: ventana 1, región principal 99, protected 79
+        TinyLfuCache<String, String> cache = cache(100, Duration.ofMinutes(1), Duration.ofMinutes(1));
+        cache.put("P", "x".repeat(70));
+        cache.get("P", () -> "no se carga");
+        cache.put("A", "x".repeat(9));
+        cache.put("B", "x".repeat(9));
+
+        // P (protected) crece sin pasar por la ventana: desborda la región principal en 1
+        cache.put("P", "x".repeat(79));
+
+        assertThat(cache.getIfPresent("A")).isNull();
+        assertThat(cache.getIfPresent("B")).isNotNull();
+        assertThat(cache.getIfPresent("P")).isNotNull();
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void windowCandidate_shouldLoseAgainstAMoreFrequentVictim() throws Exception {
+        TinyLfuCache<String, String> cache = cache(100, Duration.ofMinutes(1), Duration.ofMinutes(1));
+        cache.put("A", "x".repeat(49));
+        cache.put("B", "x".repeat(48));
+        for (int i = 0; i < 5; i++) {
+            cache.get("A", () -> "no se carga");
+        }
+        cache.put("nueva", "x".repeat(15));
+
+        // A (frecuente) está en protected; la víctima es B, con la misma frecuencia (0) que
+        // el candidato: pierde el candidato recién salido de la ventana
+        assertThat(cache.getIfPresent("nueva")).isNull();
+        assertThat(cache.getIfPresent("A")).isNotNull();
+        assertThat(cache.getIfPresent("B")).isNotNull();
+    }
+
+    @Test
+    void concurrentReads_shouldKeepStatsAndWeightConsistent() throws Exception {
+        TinyLfuCache<String, String> cache = cache(500, Duration.ofMinutes(1), Duration.ofMinutes(1));
+        int threads = 8;
+        int readsPerThread = 20_000;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger wrongValues = new AtomicInteger();
+        List<Thread> readers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int seed = t;
+            readers.add(Thread.ofVirtual().start(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < readsPerThread; i++) {
+                        String key = "k" + ((i * 31 + seed) % 64);
+                        if (!cache.get(key, () -> "v-" + key).equals("v-" + key)) {
+                            wrongValues.incrementAndGet();
+                        }
+                    }
+                } catch (Exception e) {
+                    wrongValues.incrementAndGet();
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        TinyLfuCache.CacheStats stats = cache.stats();
+        assertThat(wrongValues.get()).isZero();
+        assertThat(stats.hits() + stats.misses()).isEqualTo((long) threads * readsPerThread);
+        assertThat(stats.hits()).isPositive();
+        assertThat(stats.weight()).isLessThanOrEqualTo(500);
+    }
+
+    @Test
+    void frequencySketch_shouldCountUpToFifteen() {
+        TinyLfuCache.FrequencySketch sketch = new TinyLfuCache.FrequencySketch(1_024);
+
+        for (int i = 0; i < 3; i++) {
+            sketch.increment("warm");
+        }
+        for (int i = 0; i < 40; i++) {
+            sketch.increment("hot");
+        }
+
+        assertThat(sketch.frequency("warm")).isGreaterThanOrEqualTo(3);
+        assertThat(sketch.frequency("hot")).isEqualTo(15);
+        assertThat(sketch.frequency("warm")).isLessThan(sketch.frequency("hot"));
+    }
+
+    @Test
+    void frequencySketch_shouldHalveCountersAfterSampleSize() {
+        // width = 16 contadores por fila: se envejece cada 160 muestras
+        TinyLfuCache.FrequencySketch sketch = new TinyLfuCache.FrequencySketch(16);
+        for (int i = 0; i < 15; i++) {
+            sketch.increment("hot");
+        }
+        assertThat(sketch.frequency("hot")).isEqualTo(15);
+
+        for (int i = 0; i < 200; i++) {
+            sketch.increment("scan-" + i);
+        }
+
+        assertThat(sketch.frequency("hot")).isBetween(1, 14);
+    }
+
+    @Test
+    void settings_shouldBeValidated() {
+        assertThatThrownBy(() -> new TinyLfuCache.Settings(100, 10, Duration.ofSeconds(1), Duration.ofSeconds(2)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TinyLfuCache.Settings(1, 10, Duration.ofSeconds(1), Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Peso = longitud de la clave + longitud del valor; reloj manual.
+     */
+    private TinyLfuCache<String, String> cache(long maxWeight, Duration ttl, Duration refreshAfter) {
+        return new TinyLfuCache<>("test", new TinyLfuCache.Settings(maxWeight, 64, ttl, refreshAfter),
+                (key, value) -> key.length() + value.length(), now::get);
+    }
+
+    private TinyLfuCache<String, String> inlineRefreshCache(long maxWeight, Duration ttl, Duration refreshAfter) {
+        return new TinyLfuCache<>("test", new TinyLfuCache.Settings(maxWeight, 64, ttl, refreshAfter),
+                (key, value) -> key.length() + value.length(), now::get, Runnable::run);
+    }
+}
@@ -0,0 +1,64 @@
+package com.monghit.java25.jfr;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitarios para RollingHistogram
+ */
+class RollingHistogramTest {
+
+    @Test
+    void snapshot_withoutSamples_shouldBeEmpty() {
+        var histogram = new RollingHistogram(6, 1_000);
+
+        assertThat(histogram.snapshot(0)).isEqualTo(RollingHistogram.HistogramSnapshot.EMPTY);
+    }
+
+    @Test
+    void snapshot_shouldSummarizeSamplesInWindow() {
+        var histogram = new RollingHistogram(6, 1_000);
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i, 500);
+        }
+
+        RollingHistogram.HistogramSnapshot snapshot = histogram.snapshot(500);
+
+        assertThat(snapshot.count()).isEqualTo(100);
+        assertThat(snapshot.mean()).isEqualTo(50.5);
+        assertThat(snapshot.max()).isEqualTo(100);
+        // Percentiles estimados con el límite superior del bucket (potencias de 2)
+        assertThat(snapshot.p50()).isEqualTo(63);
+        assertThat(snapshot.p99()).isEqualTo(100);
+    }
+
+    @Test
+    void snapshot_shouldDropSamplesOutsideTheWindow() {
+        var histogram = new RollingHistogram(3, 1_000);
+        histogram.record(10, 0);
+        histogram.record(20, 2_500);
+
+        assertThat(histogram.snapshot(2_500).count()).isEqualTo(2);
+        assertThat(histogram.snapshot(3_500).count()).isEqualTo(1);
+        assertThat(histogram.snapshot(10_000).count()).isZero();
+    }
+
+    @Test
+    void record_shouldRecycleSlotsFromPreviousLaps() {
+        var histogram = new RollingHistogram(2, 1_000);
+        histogram.record(5, 0);
+        histogram.record(7, 2_000);
+
+        RollingHistogram.HistogramSnapshot snapshot = histogram.snapshot(2_000);
+        assertThat(snapshot.count()).isEqualTo(1);
+        assertThat(snapshot.max()).isEqualTo(7);
+    }
+
+    @Test
+    void constructor_withInvalidArguments_shouldBeRejected() {
+        assertThatThrownBy(() -> new RollingHistogram(0, 1_000))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,27 @@
+package com.monghit.java25.jfr;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitarios para VirtualThreadPinningDetector
+ */
+class VirtualThreadPinningDetectorTest {
+
+    @Test
+    void isJdkType_shouldSkipJdkFrames() {
+        assertThat(VirtualThreadPinningDetector.isJdkType("java.lang.Object")).isTrue();
+        assertThat(VirtualThreadPinningDetector.isJdkType("java.util.concurrent.locks.LockSupport")).isTrue();
+        assertThat(VirtualThreadPinningDetector.isJdkType("jdk.internal.misc.Unsafe")).isTrue();
+        assertThat(VirtualThreadPinningDetector.isJdkType("sun.nio.ch.NioSocketImpl")).isTrue();
+    }
+
+    @Test
+    void isJdkType_shouldKeepApplicationFrames() {
+        assertThat(VirtualThreadPinningDetector.isJdkType("com.monghit.java25.features.TinyLfuCache")).isFalse();
+        assertThat(VirtualThreadPinningDetector.isJdkType("javalin.Handler")).isFalse();
+        assertThat(VirtualThreadPinningDetector.isJdkType("org.springframework.web.servlet.DispatcherServlet"))
+                .isFalse();
+    }
+}
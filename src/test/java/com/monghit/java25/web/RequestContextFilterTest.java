@@ -0,0 +1,100 @@
+package com.monghit.java25.web;
+
+import com.monghit.java25.features.RequestContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.StructuredTaskScope.Subtask;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitarios para RequestContextFilter
+ */
+class RequestContextFilterTest {
+
+    private final RequestContextFilter filter = new RequestContextFilter();
+
+    // ==================== Binding Tests ====================
+
+    @Test
+    void shouldBindContextFromHeadersDuringChain() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/java25/health");
+        request.addHeader(RequestContextFilter.REQUEST_ID_HEADER, "req-1");
+        request.addHeader(RequestContextFilter.USER_ID_HEADER, "alice");
+        request.addHeader(RequestContextFilter.TENANT_ID_HEADER, "acme");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<RequestContext> seen = new AtomicReference<>();
+
+        filter.doFilter(request, response, (req, res) -> seen.set(RequestContext.CURRENT.get()));
+
+        assertThat(seen.get()).isEqualTo(new RequestContext("req-1", "alice", "acme"));
+        assertThat(response.getHeader(RequestContextFilter.REQUEST_ID_HEADER)).isEqualTo("req-1");
+        assertThat(RequestContext.CURRENT.isBound()).isFalse();
+    }
+
+    @Test
+    void shouldGenerateRequestIdWhenMissing() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/java25/health");
+        request.addHeader(RequestContextFilter.REQUEST_ID_HEADER, "  ");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<RequestContext> seen = new AtomicReference<>();
+
+        filter.doFilter(request, response, (req, res) -> seen.set(RequestContext.CURRENT.get()));
+
+        assertThat(seen.get().requestId()).isNotBlank();
+        assertThat(seen.get().userId()).isNull();
+        assertThat(seen.get().tenantId()).isNull();
+        assertThat(response.getHeader(RequestContextFilter.REQUEST_ID_HEADER)).isEqualTo(seen.get().requestId());
+    }
+
+    // ==================== Propagación Tests ====================
+
+    @Test
+    void shouldPropagateContextToForkedSubtasks() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/java25/health");
+        request.addHeader(RequestContextFilter.TENANT_ID_HEADER, "acme");
+        AtomicReference<String> seen = new AtomicReference<>();
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            try (var scope = StructuredTaskScope.open()) {
+                Subtask<String> tenant = scope.fork(() -> RequestContext.CURRENT.get().tenantId());
+                scope.join();
+                seen.set(tenant.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertThat(seen.get()).isEqualTo("acme");
+    }
+
+    @Test
+    void shouldIsolateConcurrentRequests() throws Exception {
+        int requests = 1_000;
+        AtomicReference<String> mismatch = new AtomicReference<>();
+
+        try (var scope = StructuredTaskScope.open()) {
+            for (int i = 0; i < requests; i++) {
+                String userId = "user-" + i;
+                scope.fork(() -> {
+                    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/java25/health");
+                    request.addHeader(RequestContextFilter.USER_ID_HEADER, userId);
+                    filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+                        Thread.yield();
+                        if (!userId.equals(RequestContext.CURRENT.get().userId())) {
+                            mismatch.set(userId);
+                        }
+                    });
+                    return null;
+                });
+            }
+            scope.join();
+        }
+
+        assertThat(mismatch.get()).isNull();
+    }
+}
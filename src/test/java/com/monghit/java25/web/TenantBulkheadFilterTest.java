@@ -0,0 +1,86 @@
+package com.monghit.java25.web;
+
+import com.monghit.java25.features.TenantBulkhead;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitarios para TenantBulkheadFilter detrás de RequestContextFilter
+ */
+class TenantBulkheadFilterTest {
+
+    private final TenantBulkhead bulkhead = new TenantBulkhead(true, 1, 0, Duration.ZERO, 16);
+    private final RequestContextFilter contextFilter = new RequestContextFilter();
+    private final TenantBulkheadFilter bulkheadFilter = new TenantBulkheadFilter(bulkhead);
+
+    @Test
+    void shouldRejectWith429WhenTenantIsSaturated() throws Exception {
+        AtomicInteger handled = new AtomicInteger();
+        MockHttpServletResponse nested = new MockHttpServletResponse();
+
+        MockHttpServletResponse outer = perform("acme", () -> {
+            handled.incrementAndGet();
+            // Segunda petición del mismo tenant mientras la primera tiene el permiso
+            MockHttpServletResponse response = perform("acme", handled::incrementAndGet);
+            nested.setStatus(response.getStatus());
+            nested.setHeader("Retry-After", response.getHeader("Retry-After"));
+        });
+
+        assertThat(outer.getStatus()).isEqualTo(200);
+        assertThat(nested.getStatus()).isEqualTo(429);
+        assertThat(nested.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(handled.get()).isEqualTo(1);
+        assertThat(bulkhead.stats().get("acme").rejected()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReleasePermitAfterRequest() throws Exception {
+        perform("acme", () -> { });
+        MockHttpServletResponse response = perform("acme", () -> { });
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(bulkhead.stats().get("acme").completed()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldHoldPermitUntilAsyncRequestCompletes() throws Exception {
+        MockHttpServletRequest request = request("acme");
+        request.setAsyncSupported(true);
+        contextFilter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> bulkheadFilter.doFilter(req, res, (r, s) -> r.startAsync()));
+
+        assertThat(bulkhead.stats().get("acme").inFlight()).isEqualTo(1);
+        assertThat(perform("acme", () -> { }).getStatus()).isEqualTo(429);
+
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+
+        assertThat(bulkhead.stats().get("acme").inFlight()).isZero();
+        assertThat(bulkhead.stats().get("acme").completed()).isEqualTo(1);
+        assertThat(perform("acme", () -> { }).getStatus()).isEqualTo(200);
+    }
+
+    private MockHttpServletRequest request(String tenant) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/java25/scoped-values/nested");
+        request.addHeader(RequestContextFilter.TENANT_ID_HEADER, tenant);
+        return request;
+    }
+
+    private MockHttpServletResponse perform(String tenant, Runnable handler) {
+        MockHttpServletRequest request = request(tenant);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            contextFilter.doFilter(request, response,
+                    (req, res) -> bulkheadFilter.doFilter(req, res, (r, s) -> handler.run()));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return response;
+    }
+}